@@ -0,0 +1,58 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.benchmarks;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.AbilityScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One scheduler tick with N pending tasks spread over a handful of entities
+ * Half the tasks repeat for the whole run and half are one-shots far in the future,
+ * so the pending set stays the same size from tick to tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AbilitySchedulerBenchmark {
+
+    // Tasks per simulated entity, roughly one form's worth of scheduled effects
+    private static final int TASKS_PER_ENTITY = 8;
+
+    @Param({"16", "128", "1024"})
+    public int pendingTasks;
+
+    private long tick;
+    private int actionRuns;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        AbilityScheduler.clearAll();
+        Runnable action = () -> actionRuns++;
+
+        UUID entity = UUID.randomUUID();
+        for (int i = 0; i < pendingTasks; i++) {
+            if (i % TASKS_PER_ENTITY == 0) {
+                entity = UUID.randomUUID();
+            }
+            if (i % 2 == 0) {
+                AbilityScheduler.schedule(entity,
+                    new AbilityScheduler.ScheduledTask(action, 0, true, 1 + (i % 5), Long.MAX_VALUE));
+            } else {
+                AbilityScheduler.schedule(entity,
+                    new AbilityScheduler.ScheduledTask(action, Long.MAX_VALUE, false, 0, 0));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        AbilityScheduler.clearAll();
+    }
+
+    @Benchmark
+    public int tick() {
+        AbilityScheduler.tick(tick++);
+        return actionRuns;
+    }
+}
@@ -0,0 +1,45 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.benchmarks;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.config.ParticleConfig;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+import java.util.HashMap;
+
+/**
+ * Shared setup for benchmarks that touch Minecraft registries or the mod's config values
+ * Config fields are normally filled by ModConfigEvent, so the benchmarks set them to the spec defaults.
+ */
+final class BenchmarkBootstrap {
+    private static boolean registriesReady;
+
+    private BenchmarkBootstrap() {
+    }
+
+    /**
+     * Bootstrap vanilla registries (items, particle types) once per fork
+     */
+    static synchronized void registries() {
+        if (registriesReady) {
+            return;
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        registriesReady = true;
+    }
+
+    /**
+     * Apply the ParticleConfig defaults used by the particle shape code
+     */
+    static void particleConfigDefaults() {
+        ParticleConfig.particleAngleIncrement = 10.0;
+        ParticleConfig.particleArcDegrees = 160.0;
+        ParticleConfig.radialLayers = 5;
+        ParticleConfig.baseRadius = 2.8;
+        ParticleConfig.radiusIncrement = 0.2;
+        ParticleConfig.particlesPerPosition = 1;
+        if (ParticleConfig.particleMappings == null) {
+            ParticleConfig.particleMappings = new HashMap<>();
+        }
+    }
+}
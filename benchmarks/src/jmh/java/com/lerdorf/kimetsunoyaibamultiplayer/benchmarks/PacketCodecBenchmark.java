@@ -0,0 +1,83 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.benchmarks;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.config.SwordDisplayConfig;
+import com.lerdorf.kimetsunoyaibamultiplayer.network.packets.AnimationSyncPacket;
+import com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordDisplaySyncPacket;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode of the two most frequently sent packets over a reused FriendlyByteBuf
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PacketCodecBenchmark {
+
+    private final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer(256));
+
+    private AnimationSyncPacket animationPacket;
+    private AnimationSyncPacket animationStopPacket;
+    private SwordDisplaySyncPacket swordDisplayPacket;
+
+    private FriendlyByteBuf encodedAnimation;
+    private FriendlyByteBuf encodedSwordDisplay;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.registries();
+
+        UUID player = UUID.randomUUID();
+        animationPacket = new AnimationSyncPacket(player,
+            ResourceLocation.fromNamespaceAndPath("kimetsunoyaiba", "sword_attack_1"), 4, 20, false, false, null,
+            new ItemStack(Items.IRON_SWORD), ResourceLocation.fromNamespaceAndPath("minecraft", "crit"));
+        animationStopPacket = new AnimationSyncPacket(player, null, 0, 0, false, true);
+        swordDisplayPacket = new SwordDisplaySyncPacket(player, new ItemStack(Items.IRON_SWORD),
+            new ItemStack(Items.DIAMOND_SWORD), SwordDisplayConfig.SwordDisplayPosition.HIP);
+
+        encodedAnimation = new FriendlyByteBuf(Unpooled.buffer(256));
+        animationPacket.toBytes(encodedAnimation);
+        encodedSwordDisplay = new FriendlyByteBuf(Unpooled.buffer(256));
+        swordDisplayPacket.toBytes(encodedSwordDisplay);
+    }
+
+    @Benchmark
+    public int encodeAnimationSync() {
+        buf.clear();
+        animationPacket.toBytes(buf);
+        return buf.writerIndex();
+    }
+
+    @Benchmark
+    public int encodeAnimationStop() {
+        buf.clear();
+        animationStopPacket.toBytes(buf);
+        return buf.writerIndex();
+    }
+
+    @Benchmark
+    public AnimationSyncPacket decodeAnimationSync() {
+        encodedAnimation.readerIndex(0);
+        return new AnimationSyncPacket(encodedAnimation);
+    }
+
+    @Benchmark
+    public int encodeSwordDisplaySync() {
+        buf.clear();
+        swordDisplayPacket.toBytes(buf);
+        return buf.writerIndex();
+    }
+
+    @Benchmark
+    public SwordDisplaySyncPacket decodeSwordDisplaySync() {
+        encodedSwordDisplay.readerIndex(0);
+        return new SwordDisplaySyncPacket(encodedSwordDisplay);
+    }
+}
@@ -0,0 +1,68 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.benchmarks;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.ParticleHelper;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point generation for the sword arc and line particle shapes, without spawning anything
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParticleShapeBenchmark {
+
+    /**
+     * Sums every generated coordinate so the shape code cannot be optimised away
+     */
+    static final class Checksum implements ParticleHelper.PointConsumer {
+        double sum;
+        int points;
+
+        @Override
+        public void accept(double x, double y, double z) {
+            sum += x + y + z;
+            points++;
+        }
+    }
+
+    @Param({"5", "10"})
+    public double angleIncrement;
+
+    @Param({"16", "64"})
+    public int lineCount;
+
+    private final Checksum checksum = new Checksum();
+    private final Vec3 center = new Vec3(128.5, 64.0, -32.5);
+    private final Vec3 direction = new Vec3(0.6, 0.1, 0.79).normalize();
+    private final double yaw = Math.toRadians(37.0);
+    private final double pitch = Math.toRadians(-12.0);
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.particleConfigDefaults();
+    }
+
+    @Benchmark
+    public double horizontalArc() {
+        checksum.sum = 0;
+        ParticleHelper.forEachHorizontalArcPoint(center, yaw, pitch, 2.8, 0.2, 160, angleIncrement, 0.5, checksum);
+        return checksum.sum;
+    }
+
+    @Benchmark
+    public double verticalArc() {
+        checksum.sum = 0;
+        ParticleHelper.forEachVerticalArcPoint(center, yaw, pitch, 0.5, checksum);
+        return checksum.sum;
+    }
+
+    @Benchmark
+    public double line() {
+        checksum.sum = 0;
+        ParticleHelper.forEachLinePoint(center, direction, 6.0, lineCount, checksum);
+        return checksum.sum;
+    }
+}
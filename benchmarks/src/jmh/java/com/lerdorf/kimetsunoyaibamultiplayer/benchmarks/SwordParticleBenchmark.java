@@ -0,0 +1,53 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.benchmarks;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.config.ParticleConfig;
+import com.lerdorf.kimetsunoyaibamultiplayer.particles.SwordParticleMapping;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Particle resolution per swing for a sword, both from the resolved cache and from scratch
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwordParticleBenchmark {
+
+    /** dust = config dust mapping, crit = config particle mapping, none = not a sword */
+    @Param({"dust", "crit", "none"})
+    public String sword;
+
+    private ItemStack stack;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.registries();
+        BenchmarkBootstrap.particleConfigDefaults();
+        ParticleConfig.particleMappings.put("minecraft:iron_sword",
+            new ParticleConfig.ParticleMapping("minecraft:iron_sword", "minecraft:dust", 1.5f, 0.5f, 0.8f, 1.0f));
+        ParticleConfig.particleMappings.put("minecraft:diamond_sword",
+            new ParticleConfig.ParticleMapping("minecraft:diamond_sword", "minecraft:crit"));
+
+        stack = switch (sword) {
+            case "dust" -> new ItemStack(Items.IRON_SWORD);
+            case "crit" -> new ItemStack(Items.DIAMOND_SWORD);
+            default -> new ItemStack(Items.STICK);
+        };
+        SwordParticleMapping.invalidateCache();
+    }
+
+    @Benchmark
+    public ParticleOptions cached() {
+        return SwordParticleMapping.getParticleForSword(stack);
+    }
+
+    @Benchmark
+    public ParticleOptions uncached() {
+        SwordParticleMapping.invalidateCache();
+        return SwordParticleMapping.getParticleForSword(stack);
+    }
+}
@@ -83,22 +83,19 @@ public class Config
     @SubscribeEvent
     public static void onLoad(final ModConfigEvent event)
     {
-    	if (Config.logDebug)
-        System.out.println("COMMON CONFIG LOADING...");
         logDebug = LOG_DEBUG.get();
         logWarning = LOG_WARNING.get();
         logInfo = LOG_INFO.get();
         logError = LOG_ERROR.get();
+        Log.refreshLevels();
         onScreenDebug = ON_SCREEN_DEBUG.get();
         showBreathingDisplay = SHOW_BREATHING_DISPLAY.get();
         breathingDisplayPosition = BREATHING_DISPLAY_POSITION.get();
         breathingDisplayScale = BREATHING_DISPLAY_SCALE.get();
         suppressFormCycleChat = SUPPRESS_FORM_CYCLE_CHAT.get();
         enableSwordClashing = ENABLE_SWORD_CLASHING.get();
-        if (Config.logDebug)
-        System.out.println("Common config loaded: logDebug=" + logDebug + ", onScreenDebug=" + onScreenDebug +
-                ", showBreathingDisplay=" + showBreathingDisplay + ", breathingDisplayPosition=" + breathingDisplayPosition +
-                ", breathingDisplayScale=" + breathingDisplayScale + ", suppressFormCycleChat=" + suppressFormCycleChat +
-                ", enableSwordClashing=" + enableSwordClashing);
+        if (Log.debugEnabled)
+            Log.debug("Common config loaded: logDebug={}, onScreenDebug={}, showBreathingDisplay={}, breathingDisplayPosition={}, breathingDisplayScale={}, suppressFormCycleChat={}, enableSwordClashing={}",
+                logDebug, onScreenDebug, showBreathingDisplay, breathingDisplayPosition, breathingDisplayScale, suppressFormCycleChat, enableSwordClashing);
     }
 }
\ No newline at end of file
@@ -2,13 +2,15 @@ package com.lerdorf.kimetsunoyaibamultiplayer;
 
 import com.mojang.logging.LogUtils;
 import com.lerdorf.kimetsunoyaibamultiplayer.capability.ISwordWielderData;
-import com.lerdorf.kimetsunoyaibamultiplayer.capability.SwordWielderData;
+import com.lerdorf.kimetsunoyaibamultiplayer.capability.SwordWielderDataProvider;
 import com.lerdorf.kimetsunoyaibamultiplayer.network.ModNetworking;
+import com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingFormSyncPacket;
 import com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingSwordSwingPacket;
 import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.DamageCalculator;
 // import com.lerdorf.kimetsunoyaibamultiplayer.commands.TestParticlesCommand; // REMOVED: Uses client-only SwordParticleHandler
 // import com.lerdorf.kimetsunoyaibamultiplayer.commands.DebugParticlesCommand; // REMOVED: Uses client-only SwordParticleHandler and BonePositionTracker
 // import com.lerdorf.kimetsunoyaibamultiplayer.commands.TestAnimCommand; // REMOVED: Uses client-only SwordParticleHandler, registered client-side only
+import com.lerdorf.kimetsunoyaibamultiplayer.commands.PerfCommand;
 import com.lerdorf.kimetsunoyaibamultiplayer.commands.TestCrowQuestCommand;
 // import com.lerdorf.kimetsunoyaibamultiplayer.client.particles.SwordParticleHandler; // REMOVED: Client-only class, causes server crash
 import com.lerdorf.kimetsunoyaibamultiplayer.particles.SwordParticleMapping;
@@ -19,7 +21,7 @@ import com.lerdorf.kimetsunoyaibamultiplayer.sounds.ModSounds;
 import com.lerdorf.kimetsunoyaibamultiplayer.items.ModItems;
 import com.lerdorf.kimetsunoyaibamultiplayer.effects.ModEffects;
 import com.lerdorf.kimetsunoyaibamultiplayer.proxy.IClientProxy;
-import net.minecraft.core.Direction;
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.HookTimings;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.Entity;
@@ -30,6 +32,8 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 
@@ -39,8 +43,6 @@ import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
-import net.minecraftforge.common.capabilities.ICapabilityProvider;
-import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.event.server.ServerStartingEvent;
@@ -196,15 +198,49 @@ public class KimetsunoyaibaMultiplayer
  // 4. Attach it to entities
     @SubscribeEvent
     public void attachCapabilities(AttachCapabilitiesEvent<Entity> event) {
-        if (event.getObject() instanceof Player || event.getObject() instanceof LivingEntity) {
-            event.addCapability(ResourceLocation.fromNamespaceAndPath(MODID, "sword_wielder_data"),
-                    new ICapabilityProvider() {
-                        final SwordWielderData backend = new SwordWielderData();
-                        @Override
-                        public <T> LazyOptional<T> getCapability(Capability<T> cap, Direction side) {
-                            return cap == SWORD_WIELDER_DATA ? LazyOptional.of(() -> backend).cast() : LazyOptional.empty();
-                        }
-                    });
+        // Only sword wielders need the data: players and breathing slayer NPCs
+        if (event.getObject() instanceof Player
+                || event.getObject() instanceof com.lerdorf.kimetsunoyaibamultiplayer.entities.BreathingSlayerEntity) {
+            SwordWielderDataProvider provider = new SwordWielderDataProvider();
+            event.addCapability(ResourceLocation.fromNamespaceAndPath(MODID, "sword_wielder_data"), provider);
+            event.addListener(provider::invalidate);
+        }
+    }
+
+    /**
+     * Carry the selected breathing form over when a player respawns or returns from the End
+     */
+    @SubscribeEvent
+    public void onPlayerClone(net.minecraftforge.event.entity.player.PlayerEvent.Clone event) {
+        Player original = event.getOriginal();
+        original.reviveCaps();
+        original.getCapability(SWORD_WIELDER_DATA).ifPresent(oldData ->
+            event.getEntity().getCapability(SWORD_WIELDER_DATA).ifPresent(newData ->
+                newData.setFormIndex(oldData.getFormIndex())));
+        original.invalidateCaps();
+    }
+
+    // The client recreates its player on login, respawn and dimension change, so resend the form index
+    @SubscribeEvent
+    public void onPlayerLoggedIn(net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            BreathingFormSyncPacket.sendTo(player);
+            ModNetworking.sendToPlayer(new com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CrowRenderModePacket(
+                com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig.crowRenderMode), player);
+        }
+    }
+
+    @SubscribeEvent
+    public void onPlayerRespawn(net.minecraftforge.event.entity.player.PlayerEvent.PlayerRespawnEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            BreathingFormSyncPacket.sendTo(player);
+        }
+    }
+
+    @SubscribeEvent
+    public void onPlayerChangedDimension(net.minecraftforge.event.entity.player.PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            BreathingFormSyncPacket.sendTo(player);
         }
     }
 
@@ -257,6 +293,7 @@ public class KimetsunoyaibaMultiplayer
         // DebugParticlesCommand.register(event.getDispatcher()); // REMOVED: Uses client-only SwordParticleHandler and BonePositionTracker
         // TestAnimCommand.register(event.getDispatcher()); // REMOVED: Uses client-only SwordParticleHandler
         TestCrowQuestCommand.register(event.getDispatcher());
+        PerfCommand.register(event.getDispatcher());
     }
 
     // Prevent infinite recursion when AOE attacks trigger more events
@@ -282,14 +319,14 @@ public class KimetsunoyaibaMultiplayer
                 ItemStack weapon = attacker.getItemInHand(InteractionHand.MAIN_HAND);
 
                 if (Config.logDebug && SwordParticleMapping.isKimetsunoyaibaSword(weapon)) {
-                    Log.debug("Server: Attack detected with kimetsunoyaiba sword: " +
-                        attacker.getName().getString() + " -> " + target.getName().getString());
+                    Log.debug("Server: Attack detected with kimetsunoyaiba sword: {} -> {}",
+                        attacker.getName().getString(), target.getName().getString());
                 }
             }
         } catch (Exception e) {
             // Silently catch exceptions to prevent crashes
             if (Config.logDebug) {
-                Log.debug("Error in onLivingAttack: " + e.getMessage());
+                Log.debug("Error in onLivingAttack: {}", e.getMessage());
             }
         }
     }
@@ -300,16 +337,21 @@ public class KimetsunoyaibaMultiplayer
         if (event.phase == TickEvent.Phase.END) {
             if (event.getServer() != null) {
                 ServerLevel overworld = event.getServer().overworld();
+                ProfilerFiller profiler = event.getServer().getProfiler();
 
                 // Update flying crows ONCE per tick (not per dimension)
-                CrowEnhancementHandler.tick(overworld);
+                HookTimings.CROW_ENHANCEMENTS.time(profiler, () -> CrowEnhancementHandler.tick(overworld));
 
                 // Tick breathing technique ability scheduler
-                com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.AbilityScheduler.tick(overworld);
+                HookTimings.ABILITY_SCHEDULER.time(profiler,
+                    () -> com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.AbilityScheduler.tick(overworld));
 
                 // Scan for unmirrored crows every second (20 ticks)
                 if (overworld.getGameTime() % 20 == 0) {
-                    com.lerdorf.kimetsunoyaibamultiplayer.entities.CrowMirrorHandler.scanForUnmirroredCrows(overworld);
+                    HookTimings.CROW_MIRROR_SCAN.time(profiler,
+                        () -> com.lerdorf.kimetsunoyaibamultiplayer.entities.CrowMirrorHandler.scanForUnmirroredCrows(overworld));
+                } else {
+                    HookTimings.CROW_MIRROR_SCAN.skip();
                 }
             }
         }
@@ -322,6 +364,7 @@ public class KimetsunoyaibaMultiplayer
         @SubscribeEvent
         public static void onClientSetup(FMLClientSetupEvent event)
         {
+            com.lerdorf.kimetsunoyaibamultiplayer.compat.ShoulderSurfingCompat.init();
         	if (Config.logDebug)
             Log.info("Animation sync system initialized for client");
         }
@@ -377,19 +420,28 @@ public class KimetsunoyaibaMultiplayer
                 if (Config.logDebug && debugTickCounter % 100 == 0) { // Log every 5 seconds
                     Log.info("Client tick event handler is working, tick: {}", debugTickCounter);
                 }
-                com.lerdorf.kimetsunoyaibamultiplayer.client.AnimationTracker.tick();
-                com.lerdorf.kimetsunoyaibamultiplayer.client.IdleWalkAnimationHandler.tick();
-                com.lerdorf.kimetsunoyaibamultiplayer.entities.CrowQuestMarkerHandlerClient.clientTick();
-                com.lerdorf.kimetsunoyaibamultiplayer.client.SwordDisplayTracker.tick();
+                ProfilerFiller profiler = net.minecraft.client.Minecraft.getInstance().getProfiler();
+
+                HookTimings.ANIMATION_TRACKER.time(profiler, com.lerdorf.kimetsunoyaibamultiplayer.client.AnimationTracker::tick);
+
+                HookTimings.IDLE_WALK_ANIMATIONS.time(profiler, com.lerdorf.kimetsunoyaibamultiplayer.client.IdleWalkAnimationHandler::tick);
+
+                HookTimings.CROW_QUEST_MARKERS.time(profiler, com.lerdorf.kimetsunoyaibamultiplayer.entities.CrowQuestMarkerHandlerClient::clientTick);
+
+                HookTimings.SWORD_DISPLAY.time(profiler, com.lerdorf.kimetsunoyaibamultiplayer.client.SwordDisplayTracker::tick);
 
                 // Update gun animations for local player
                 if (net.minecraft.client.Minecraft.getInstance().player != null) {
-                    com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler.updatePlayerGunAnimation(
-                            net.minecraft.client.Minecraft.getInstance().player);
+                    HookTimings.PLAYER_GUN_ANIMATION.time(profiler, () -> {
+                        com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler.updatePlayerGunAnimation(
+                                net.minecraft.client.Minecraft.getInstance().player);
+                    });
+                } else {
+                    HookTimings.PLAYER_GUN_ANIMATION.skip();
                 }
 
-                // Update gun animations for all nearby entities (including mobs)
-                com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler.updateAllEntityGunAnimations();
+                // Update gun animations for armed remote entities (including mobs)
+                HookTimings.ENTITY_GUN_ANIMATIONS.time(profiler, com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler::updateAllEntityGunAnimations);
             }
         }
 
@@ -403,6 +455,7 @@ public class KimetsunoyaibaMultiplayer
                 com.lerdorf.kimetsunoyaibamultiplayer.entities.CrowQuestMarkerHandlerClient.clearAllMarkers();
                 CrowEnhancementHandler.clearFlyingCrows();
                 com.lerdorf.kimetsunoyaibamultiplayer.client.CrowAnimatableWrapper.clearAll();
+                com.lerdorf.kimetsunoyaibamultiplayer.client.CrowProxyAnimatable.clearAll();
                 com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler.clearAll();
                 com.lerdorf.kimetsunoyaibamultiplayer.client.SwordDisplayTracker.clearAll();
                 com.lerdorf.kimetsunoyaibamultiplayer.client.BreathingFormTracker.clearAll();
@@ -458,7 +511,7 @@ public class KimetsunoyaibaMultiplayer
                                 mc.player, gunType);
 
                         if (Config.logDebug) {
-                            Log.debug("Triggered gun shoot animation for local player: " + gunType);
+                            Log.debug("Triggered gun shoot animation for local player: {}", gunType);
                         }
                         return;
                     }
@@ -473,7 +526,7 @@ public class KimetsunoyaibaMultiplayer
                             com.lerdorf.kimetsunoyaibamultiplayer.client.AnimationTracker.markLeftClickAttack(clientAttacker.getUUID());
 
                             if (Config.logDebug) {
-                                Log.debug("Set left-click attack flag for entity attack: " + animationName);
+                                Log.debug("Set left-click attack flag for entity attack: {}", animationName);
                             }
                         }
                     }
@@ -481,7 +534,7 @@ public class KimetsunoyaibaMultiplayer
             } catch (Exception e) {
                 // Silently catch exceptions to prevent crash
                 if (Config.logError) {
-                    Log.error("Error in onClientLivingAttack: " + e.getMessage());
+                    Log.error("Error in onClientLivingAttack: {}", e.getMessage());
                 }
             }
         }
@@ -508,7 +561,7 @@ public class KimetsunoyaibaMultiplayer
                             mc.player.getUUID(), heldSword, message);
 
                         if (Config.logDebug) {
-                            Log.debug("Cached breathing form display text for " + heldSword.getItem() + ": " + message);
+                            Log.debug("Cached breathing form display text for {}: {}", heldSword.getItem(), message);
                         }
                     }
                 }
@@ -517,7 +570,7 @@ public class KimetsunoyaibaMultiplayer
                 if (Config.suppressFormCycleChat) {
                     event.setCanceled(true);
                     if (Config.logDebug) {
-                        Log.debug("Suppressed breathing form cycle chat message: " + message);
+                        Log.debug("Suppressed breathing form cycle chat message: {}", message);
                     }
                 }
             }
@@ -578,7 +631,7 @@ public class KimetsunoyaibaMultiplayer
                         com.lerdorf.kimetsunoyaibamultiplayer.client.AnimationTracker.markLeftClickAttack(mc.player.getUUID());
 
                         if (Config.logDebug) {
-                            Log.debug("Set left-click attack flag for breathing sword left-click: " + animationName);
+                            Log.debug("Set left-click attack flag for breathing sword left-click: {}", animationName);
                         }
                     }
                 }
@@ -594,13 +647,14 @@ public class KimetsunoyaibaMultiplayer
                         com.lerdorf.kimetsunoyaibamultiplayer.client.AnimationTracker.markLeftClickAttack(mc.player.getUUID());
 
                         if (Config.logDebug) {
-                            Log.debug("Set left-click attack flag for nichirinsword left-click: " + animationName);
+                            Log.debug("Set left-click attack flag for nichirinsword left-click: {}", animationName);
                         }
                     }
                 }
 
                 // Check if holding rifle
-                if (heldItem.getItem().toString().contains("rifle")) {
+                if (com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler.classifyItem(heldItem.getItem())
+                        == com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler.GunType.RIFLE) {
                     com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler.GunType gunType =
                             com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler.GunType.RIFLE;
 
@@ -616,7 +670,7 @@ public class KimetsunoyaibaMultiplayer
                 // Silently catch exceptions to prevent crash
                 // The exception likely occurs due to threading or mod conflicts
                 if (Config.logDebug) {
-                    Log.error("Error in onLeftClickEmpty: " + e.getMessage());
+                    Log.error("Error in onLeftClickEmpty: {}", e.getMessage());
                 }
             }
         }
@@ -3,46 +3,196 @@ package com.lerdorf.kimetsunoyaibamultiplayer;
 import com.mojang.logging.LogUtils;
 import org.slf4j.Logger;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Mod logging facade
+ * Level switches are plain static booleans refreshed when the config loads, and checked before
+ * anything else happens. Fixed-arity, primitive and Supplier overloads avoid the varargs array,
+ * boxing and string building when a level is off; hot call sites that pass several arguments
+ * should still test the switch themselves (e.g. if (Log.debugEnabled)) so arguments are not boxed.
+ */
 public class Log {
 	private static final Logger LOGGER = LogUtils.getLogger();
-	
+
+	// Minimum time between two rate-limited messages with the same template
+	private static final long RATE_LIMIT_MILLIS = 10_000;
+
+	// Errors are reported until the config says otherwise, everything else starts off
+	public static boolean debugEnabled = false;
+	public static boolean infoEnabled = false;
+	public static boolean warnEnabled = false;
+	public static boolean errorEnabled = true;
+
+	private static final Map<String, RateLimit> RATE_LIMITS = new ConcurrentHashMap<>();
+
+	private static final class RateLimit {
+		long nextAllowedMillis;
+		int suppressed;
+	}
+
+	/**
+	 * Re-read the level switches from Config (called from Config.onLoad)
+	 */
+	public static void refreshLevels() {
+		debugEnabled = Config.logDebug && LOGGER.isDebugEnabled();
+		infoEnabled = Config.logInfo && LOGGER.isInfoEnabled();
+		warnEnabled = Config.logWarning && LOGGER.isWarnEnabled();
+		errorEnabled = Config.logError && LOGGER.isErrorEnabled();
+		RATE_LIMITS.clear();
+	}
+
+	// ---- debug ----
+
+	public static void debug(String message) {
+		if (debugEnabled) LOGGER.debug(message);
+	}
+
+	public static void debug(String message, Object arg) {
+		if (debugEnabled) LOGGER.debug(message, arg);
+	}
+
+	public static void debug(String message, int arg) {
+		if (debugEnabled) LOGGER.debug(message, arg);
+	}
+
+	public static void debug(String message, long arg) {
+		if (debugEnabled) LOGGER.debug(message, arg);
+	}
+
+	public static void debug(String message, double arg) {
+		if (debugEnabled) LOGGER.debug(message, arg);
+	}
+
+	public static void debug(String message, Object arg1, Object arg2) {
+		if (debugEnabled) LOGGER.debug(message, arg1, arg2);
+	}
+
 	public static void debug(String message, Object... args) {
 		try {
-		if (Config.logDebug)
-			LOGGER.debug(message, args);
-        	//System.out.println("[DEBUG] " + format(message, args));
+			if (debugEnabled) LOGGER.debug(message, args);
 		} catch (Exception e) {}
-    }
-
-    public static void info(String message, Object... args) {
-    	try {
-    	if (Config.logInfo)
-    		LOGGER.info(message, args);
-        	//System.out.println("[INFO] " + format(message, args));
-    	} catch (Exception e) {}
-    }
-
-    public static void warn(String message, Object... args) {
-    	try {
-    	if (Config.logWarning)
-    		LOGGER.warn(message, args);
-        	//System.out.println("[WARNING] " + format(message, args));
-    	}catch (Exception e) {}
-    }
-
-    public static void error(String message, Object... args) {
-    	try {
-    	if (Config.logError)
-    		LOGGER.error(message, args);
-        	//System.out.println("[ERROR] " + format(message, args));
-    	} catch (Exception e) {}
-    }
-    
-    private static String format(String message, Object... args) {
-        // Replace `{}` with the corresponding arguments
-        for (Object arg : args) {
-            message = message.replaceFirst("\\{}", arg == null ? "null" : arg.toString());
-        }
-        return message;
-    }
+	}
+
+	public static void debug(Supplier<String> message) {
+		if (debugEnabled) LOGGER.debug(message.get());
+	}
+
+	// ---- info ----
+
+	public static void info(String message) {
+		if (infoEnabled) LOGGER.info(message);
+	}
+
+	public static void info(String message, Object arg) {
+		if (infoEnabled) LOGGER.info(message, arg);
+	}
+
+	public static void info(String message, int arg) {
+		if (infoEnabled) LOGGER.info(message, arg);
+	}
+
+	public static void info(String message, long arg) {
+		if (infoEnabled) LOGGER.info(message, arg);
+	}
+
+	public static void info(String message, double arg) {
+		if (infoEnabled) LOGGER.info(message, arg);
+	}
+
+	public static void info(String message, Object arg1, Object arg2) {
+		if (infoEnabled) LOGGER.info(message, arg1, arg2);
+	}
+
+	public static void info(String message, Object... args) {
+		try {
+			if (infoEnabled) LOGGER.info(message, args);
+		} catch (Exception e) {}
+	}
+
+	public static void info(Supplier<String> message) {
+		if (infoEnabled) LOGGER.info(message.get());
+	}
+
+	// ---- warn ----
+
+	public static void warn(String message) {
+		if (warnEnabled) LOGGER.warn(message);
+	}
+
+	public static void warn(String message, Object arg) {
+		if (warnEnabled) LOGGER.warn(message, arg);
+	}
+
+	public static void warn(String message, Object arg1, Object arg2) {
+		if (warnEnabled) LOGGER.warn(message, arg1, arg2);
+	}
+
+	public static void warn(String message, Object... args) {
+		try {
+			if (warnEnabled) LOGGER.warn(message, args);
+		} catch (Exception e) {}
+	}
+
+	public static void warn(Supplier<String> message) {
+		if (warnEnabled) LOGGER.warn(message.get());
+	}
+
+	/**
+	 * Warn at most once per RATE_LIMIT_MILLIS for a given message template.
+	 * Meant for warnings that can fire every tick or every packet; the next message that gets
+	 * through reports how many were dropped in between.
+	 */
+	public static void warnLimited(String message, Object arg) {
+		if (warnEnabled && allow(message)) LOGGER.warn(message, arg);
+	}
+
+	public static void warnLimited(String message, Object arg1, Object arg2) {
+		if (warnEnabled && allow(message)) LOGGER.warn(message, arg1, arg2);
+	}
+
+	// ---- error ----
+
+	public static void error(String message) {
+		if (errorEnabled) LOGGER.error(message);
+	}
+
+	public static void error(String message, Object arg) {
+		if (errorEnabled) LOGGER.error(message, arg);
+	}
+
+	public static void error(String message, Object arg1, Object arg2) {
+		if (errorEnabled) LOGGER.error(message, arg1, arg2);
+	}
+
+	public static void error(String message, Object... args) {
+		try {
+			if (errorEnabled) LOGGER.error(message, args);
+		} catch (Exception e) {}
+	}
+
+	public static void error(Supplier<String> message) {
+		if (errorEnabled) LOGGER.error(message.get());
+	}
+
+	private static boolean allow(String template) {
+		RateLimit limit = RATE_LIMITS.computeIfAbsent(template, k -> new RateLimit());
+		long now = System.currentTimeMillis();
+		int suppressed;
+		synchronized (limit) {
+			if (now < limit.nextAllowedMillis) {
+				limit.suppressed++;
+				return false;
+			}
+			limit.nextAllowedMillis = now + RATE_LIMIT_MILLIS;
+			suppressed = limit.suppressed;
+			limit.suppressed = 0;
+		}
+		if (suppressed > 0) {
+			LOGGER.warn("({} similar warnings suppressed in the last {}s)", suppressed, RATE_LIMIT_MILLIS / 1000);
+		}
+		return true;
+	}
 }
@@ -0,0 +1,76 @@
+package com.lerdorf.kimetsunoyaibamultiplayer;
+
+import dev.kosmx.playerAnim.api.TransformType;
+import dev.kosmx.playerAnim.api.layered.KeyframeAnimationPlayer;
+import dev.kosmx.playerAnim.core.data.KeyframeAnimation;
+import dev.kosmx.playerAnim.core.util.Vec3f;
+
+/**
+ * Speed-scaled keyframe player with an exact fractional time accumulator.
+ *
+ * Unlike {@link SpeedControlledAnimation}, which skips ticks at random to approximate
+ * fractional speeds, this player tracks animation time as a double and samples the
+ * keyframes at the interpolated position. Two clients starting the same animation at the
+ * same speed therefore see identical poses on every frame. Nothing is allocated per tick.
+ */
+public class ScaledTimeAnimation extends KeyframeAnimationPlayer {
+    private final float speed;
+
+    // Animation time in keyframe ticks at the start of the current game tick
+    private double time = 0;
+    // Number of whole ticks already applied to the underlying player
+    private int appliedTicks = 0;
+    // Sub-tick position handed to the keyframe interpolation for the current frame
+    private float sampleDelta = 0f;
+
+    public ScaledTimeAnimation(KeyframeAnimation anim, float speed) {
+        super(anim);
+        this.speed = Math.max(0f, speed);
+    }
+
+    @Override
+    public void tick() {
+        time += speed;
+        advanceTo((int) Math.floor(time));
+    }
+
+    @Override
+    public void setupAnim(float tickDelta) {
+        // Sample time only ever moves forward between game ticks, so catching the
+        // underlying player up here never needs a rewind on the next tick
+        double sampleTime = time + tickDelta * speed;
+        advanceTo((int) Math.floor(sampleTime));
+        sampleDelta = clampDelta(sampleTime - appliedTicks);
+        super.setupAnim(sampleDelta);
+    }
+
+    @Override
+    public Vec3f get3DTransform(String modelName, TransformType type, float tickDelta, Vec3f value0) {
+        return super.get3DTransform(modelName, type, sampleDelta, value0);
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    /**
+     * @return Exact animation time in keyframe ticks, including the fractional part
+     */
+    public double getAnimationTime() {
+        return time;
+    }
+
+    private void advanceTo(int targetTick) {
+        while (appliedTicks < targetTick && isActive()) {
+            super.tick();
+            appliedTicks++;
+        }
+    }
+
+    private static float clampDelta(double delta) {
+        // The keyframe interpolation expects a delta inside the current tick
+        if (delta < 0) return 0f;
+        if (delta >= 1) return 0.9999f;
+        return (float) delta;
+    }
+}
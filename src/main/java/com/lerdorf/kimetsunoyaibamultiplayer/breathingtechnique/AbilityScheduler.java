@@ -1,5 +1,6 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.ModJfr;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 
@@ -13,6 +14,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 public class AbilityScheduler {
     private static final Map<UUID, List<ScheduledTask>> entityTasks = new ConcurrentHashMap<>();
+    // Task actions run since startup, only touched from the server thread
+    private static long tasksRun = 0;
 
     public static class ScheduledTask {
         public final Runnable action;
@@ -39,8 +42,7 @@ public class AbilityScheduler {
         long currentTick = entity.level().getGameTime();
         UUID entityId = entity.getUUID();
 
-        ScheduledTask task = new ScheduledTask(action, currentTick + delayTicks, false, 0, 0);
-        entityTasks.computeIfAbsent(entityId, k -> new CopyOnWriteArrayList<>()).add(task);
+        schedule(entityId, new ScheduledTask(action, currentTick + delayTicks, false, 0, 0));
     }
 
     /**
@@ -52,7 +54,13 @@ public class AbilityScheduler {
         long currentTick = entity.level().getGameTime();
         UUID entityId = entity.getUUID();
 
-        ScheduledTask task = new ScheduledTask(action, currentTick, true, intervalTicks, currentTick + durationTicks);
+        schedule(entityId, new ScheduledTask(action, currentTick, true, intervalTicks, currentTick + durationTicks));
+    }
+
+    /**
+     * Schedule a prepared task for an entity id
+     */
+    public static void schedule(UUID entityId, ScheduledTask task) {
         entityTasks.computeIfAbsent(entityId, k -> new CopyOnWriteArrayList<>()).add(task);
     }
 
@@ -60,7 +68,13 @@ public class AbilityScheduler {
      * Tick all scheduled tasks - should be called from server tick event
      */
     public static void tick(ServerLevel level) {
-        long currentTick = level.getGameTime();
+        tick(level.getGameTime());
+    }
+
+    /**
+     * Tick all scheduled tasks against a game time
+     */
+    public static void tick(long currentTick) {
         List<UUID> emptyEntities = new ArrayList<>();
 
         for (Map.Entry<UUID, List<ScheduledTask>> entry : entityTasks.entrySet()) {
@@ -75,9 +89,7 @@ public class AbilityScheduler {
                     if (currentTick >= task.endAtTick) {
                         keepTask = false; // Task expired
                     } else if ((currentTick - task.executeAtTick) % task.repeatInterval == 0) {
-                        try {
-                            task.action.run();
-                        } catch (Exception e) {
+                        if (!runTask(task)) {
                             // Task failed, remove it
                             keepTask = false;
                         }
@@ -85,11 +97,7 @@ public class AbilityScheduler {
                 } else {
                     // One-time task
                     if (currentTick >= task.executeAtTick) {
-                        try {
-                            task.action.run();
-                        } catch (Exception e) {
-                            // Task failed
-                        }
+                        runTask(task);
                         keepTask = false; // Task executed, remove it
                     }
                 }
@@ -114,6 +122,54 @@ public class AbilityScheduler {
         }
     }
 
+    /**
+     * Run a task's action, recording a ScheduledTaskRun flight recorder event when enabled
+     * @return false if the action threw
+     */
+    private static boolean runTask(ScheduledTask task) {
+        ModJfr.ScheduledTaskRun event = null;
+        if (ModJfr.scheduledTaskRunEnabled()) {
+            event = new ModJfr.ScheduledTaskRun();
+            event.begin();
+        }
+
+        tasksRun++;
+        boolean succeeded = true;
+        try {
+            task.action.run();
+        } catch (Exception e) {
+            succeeded = false;
+        }
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repeating = task.repeating;
+                event.failed = !succeeded;
+                event.commit();
+            }
+        }
+        return succeeded;
+    }
+
+    /**
+     * @return Number of tasks currently waiting across all entities
+     */
+    public static int pendingTaskCount() {
+        int count = 0;
+        for (List<ScheduledTask> tasks : entityTasks.values()) {
+            count += tasks.size();
+        }
+        return count;
+    }
+
+    /**
+     * @return Number of task actions run since startup
+     */
+    public static long tasksRun() {
+        return tasksRun;
+    }
+
     /**
      * Cancel all scheduled tasks for an entity
      */
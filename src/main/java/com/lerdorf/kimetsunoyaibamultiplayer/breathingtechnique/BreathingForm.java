@@ -1,5 +1,7 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.ModJfr;
+
 /**
  * Represents a single breathing form with its animations, particles, sounds, and effects
  */
@@ -32,6 +34,27 @@ public class BreathingForm {
         return effect;
     }
 
+    /**
+     * Execute this form's effect, recording a FormCast flight recorder event when enabled
+     */
+    public void cast(net.minecraft.world.entity.LivingEntity entity, net.minecraft.world.level.Level level) {
+        if (!ModJfr.formCastEnabled()) {
+            effect.execute(entity, level);
+            return;
+        }
+
+        ModJfr.FormCast event = new ModJfr.FormCast();
+        event.begin();
+        effect.execute(entity, level);
+        event.end();
+        if (event.shouldCommit()) {
+            event.form = name;
+            event.casterType = entity.getType().getDescriptionId();
+            event.clientSide = level.isClientSide();
+            event.commit();
+        }
+    }
+
     /**
      * Interface for form effect execution
      * Works with any LivingEntity (players, mobs, custom entities)
@@ -1,5 +1,6 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.ModJfr;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.BlockParticleOption;
 import net.minecraft.core.particles.DustParticleOptions;
@@ -125,7 +126,7 @@ public class FrostBreathingForms {
                             // AOE damage
                             Vec3 attackPos = entity.position().add(lookVec.scale(2.0));
                             AABB hitBox = new AABB(attackPos, attackPos).inflate(4.0);
-                            List<LivingEntity> targets = entity.level().getEntitiesOfClass(LivingEntity.class, hitBox,
+                            List<LivingEntity> targets = ModJfr.hitQuery(entity.level(), hitBox,
                                 e -> e != entity && e.isAlive());
 
                             for (LivingEntity target : targets) {
@@ -201,7 +202,7 @@ public class FrostBreathingForms {
                 Vec3 endPos = startPos.add(lookVec.scale(3.0));
 
                 AABB hitBox = new AABB(startPos, endPos).inflate(1.0);
-                List<LivingEntity> targets = level.getEntitiesOfClass(LivingEntity.class, hitBox,
+                List<LivingEntity> targets = ModJfr.hitQuery(level, hitBox,
                     e -> e != entity && e.isAlive());
 
                 for (LivingEntity target : targets) {
@@ -312,7 +313,7 @@ public class FrostBreathingForms {
 		                Vec3 endPos = startPos.add(lookVec.scale(golden ? 12 : 9.0));
 
 		                AABB hitBox = new AABB(startPos, endPos).inflate(golden ? 3 : 2.0);
-		                List<LivingEntity> targets = level.getEntitiesOfClass(LivingEntity.class, hitBox,
+		                List<LivingEntity> targets = ModJfr.hitQuery(level, hitBox,
 		                    e -> e != entity && e.isAlive());
 
 		                for (LivingEntity target : targets) {
@@ -397,7 +398,7 @@ public class FrostBreathingForms {
 	                
 	                Vec3 pos = startPos.add(lookVec.scale(currentTick*3/4));
                 	AABB hitBox = new AABB(pos.add(0, -1, 0), pos.add(0, 1, 0)).inflate(width);
-                	targets.addAll(level.getEntitiesOfClass(LivingEntity.class, hitBox,
+                	targets.addAll(ModJfr.hitQuery(level, hitBox,
                     e -> e != entity && e.isAlive()));
 
                 	if (level.getBlockState(BlockPos.containing(pos)).getCollisionShape(level, BlockPos.containing(pos)).isEmpty() || level.getBlockState(BlockPos.containing(pos)).canBeReplaced() || level.getBlockState(BlockPos.containing(pos)).isAir()) {
@@ -556,7 +557,7 @@ public class FrostBreathingForms {
         MovementHelper.setVelocity(entity, lookVec.scale(0.3));
 
         AABB hitBox = new AABB(startPos, endPos).inflate(1.5);
-        List<LivingEntity> targets = entity.level().getEntitiesOfClass(LivingEntity.class, hitBox,
+        List<LivingEntity> targets = ModJfr.hitQuery(entity.level(), hitBox,
             e -> e != entity && e.isAlive());
 
         for (LivingEntity target : targets) {
@@ -1,5 +1,6 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.ModJfr;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.core.particles.BlockParticleOption;
@@ -115,7 +116,7 @@ public class IceBreathingForms {
 					Vec3 endPos = startPos.add(lookVec.scale(6.0));
 
 					AABB hitBox = new AABB(startPos, endPos).inflate(1.5);
-					List<LivingEntity> targets = level.getEntitiesOfClass(LivingEntity.class, hitBox,
+					List<LivingEntity> targets = ModJfr.hitQuery(level, hitBox,
 							e -> e != entity && e.isAlive());
 
 					for (LivingEntity target : targets) {
@@ -184,7 +185,7 @@ public class IceBreathingForms {
 
 					// Raycast to find entity
 					AABB searchBox = new AABB(startPos, endPos).inflate(1.0);
-					List<LivingEntity> nearbyEntities = level.getEntitiesOfClass(LivingEntity.class, searchBox,
+					List<LivingEntity> nearbyEntities = ModJfr.hitQuery(level, searchBox,
 							e -> e != entity && e.isAlive());
 
 					// Determine circle center - either targeted entity or default position
@@ -337,7 +338,7 @@ public class IceBreathingForms {
 												(int) (currentCenter.y + circleRadius),
 												(int) (currentCenter.z + circleRadius))));
 								// AABB attackBox = entity.getBoundingBox().inflate(3.0);
-								List<LivingEntity> targets = entity.level().getEntitiesOfClass(LivingEntity.class,
+								List<LivingEntity> targets = ModJfr.hitQuery(entity.level(),
 										attackBox, e -> e != entity && e.isAlive());
 
 								for (LivingEntity target : targets) {
@@ -352,7 +353,7 @@ public class IceBreathingForms {
 								GuardStateHelper.clearAttackFlag(entity);
 								GuardStateHelper.enableContinuousDefense(entity);
 							} catch (Exception e) {
-								Log.error("Ice Breathing Second Form attack error: " + e.getMessage());
+								Log.error("Ice Breathing Second Form attack error: {}", e.getMessage());
 								e.printStackTrace();
 							}
 						}
@@ -446,7 +447,7 @@ public class IceBreathingForms {
 
 							AABB area = new AABB(pos.x - 4, entity.getY() - 8, pos.z - 4, pos.x + 4, entity.getY(),
 									pos.z + 4);
-							List<LivingEntity> targets = entity.level().getEntitiesOfClass(LivingEntity.class, area,
+							List<LivingEntity> targets = ModJfr.hitQuery(entity.level(), area,
 									e -> e != entity && e.isAlive() && e.getY() < entity.getY() + 2);
 
 							for (LivingEntity target : targets) {
@@ -561,7 +562,7 @@ public class IceBreathingForms {
 	                for (float i = 0; i < range; i+=width*1.8f) {
 	                	Vec3 pos = startPos.add(lookVec.scale(i));
 	                	AABB hitBox = new AABB(pos, pos).inflate(width);
-	                	nearbyEntities.addAll(level.getEntitiesOfClass(LivingEntity.class, hitBox,
+	                	nearbyEntities.addAll(ModJfr.hitQuery(level, hitBox,
 	                    e -> e != entity && e.isAlive()));
 	                }
 
@@ -588,7 +589,7 @@ public class IceBreathingForms {
 
 					// Damage nearby entities (AOE)
 					AABB area = entity.getBoundingBox().inflate(3.0);
-					List<LivingEntity> targets = level.getEntitiesOfClass(LivingEntity.class, area,
+					List<LivingEntity> targets = ModJfr.hitQuery(level, area,
 							e -> e != entity && e.isAlive());
 
 					for (LivingEntity target : targets) {
@@ -657,7 +658,7 @@ public class IceBreathingForms {
 
 							Vec3 attackPos = entity.position().add(entity.getLookAngle().scale(2.0));
 							AABB hitBox = new AABB(attackPos, attackPos).inflate(2.0);
-							List<LivingEntity> targets = entity.level().getEntitiesOfClass(LivingEntity.class, hitBox,
+							List<LivingEntity> targets = ModJfr.hitQuery(entity.level(), hitBox,
 									e -> e != entity && e.isAlive());
 
 							for (LivingEntity target : targets) {
@@ -718,7 +719,7 @@ public class IceBreathingForms {
 
 						// Large AOE damage around entity
 						AABB area = entity.getBoundingBox().inflate(5.0);
-						List<LivingEntity> targets = entity.level().getEntitiesOfClass(LivingEntity.class, area,
+						List<LivingEntity> targets = ModJfr.hitQuery(entity.level(), area,
 								e -> e != entity && e.isAlive());
 
 						for (LivingEntity target : targets) {
@@ -781,7 +782,7 @@ public class IceBreathingForms {
 					Vec3 endPos = startPos.add(lookVec.scale(6.0));
 
 					AABB hitBox = new AABB(startPos, endPos).inflate(2.0);
-					List<LivingEntity> initialTargets = level.getEntitiesOfClass(LivingEntity.class, hitBox,
+					List<LivingEntity> initialTargets = ModJfr.hitQuery(level, hitBox,
 							e -> e != entity && e.isAlive());
 
 					for (LivingEntity target : initialTargets) {
@@ -836,7 +837,7 @@ public class IceBreathingForms {
 									frontPos.add(boxSize / 2f, boxSize / 2f, boxSize / 2f));
 
 							// AABB attackBox = entity.getBoundingBox().inflate(4.5);
-							List<LivingEntity> targets = entity.level().getEntitiesOfClass(LivingEntity.class,
+							List<LivingEntity> targets = ModJfr.hitQuery(entity.level(),
 									attackBox, e -> e != entity && e.isAlive());
 
 							for (LivingEntity target : targets) {
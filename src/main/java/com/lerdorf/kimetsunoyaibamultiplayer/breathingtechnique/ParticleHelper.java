@@ -4,19 +4,54 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.phys.Vec3;
 
 import com.lerdorf.kimetsunoyaibamultiplayer.config.ParticleConfig;
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.ModJfr;
 
 import net.minecraft.core.particles.ParticleOptions;
 
 public class ParticleHelper {
+
+	/**
+	 * Receives generated particle positions
+	 * Point generation is kept separate from spawning so the shapes can be computed (and
+	 * benchmarked) without a ServerLevel.
+	 */
+	@FunctionalInterface
+	public interface PointConsumer {
+		void accept(double x, double y, double z);
+	}
+
+	/**
+	 * Spawns particles at every point it is given, counting particles and receiving players
+	 */
+	private static final class Emitter implements PointConsumer {
+		private final ServerLevel level;
+		private final ParticleOptions particle;
+		private final int particlesPerPoint;
+		int spawned;
+		int receivers;
+
+		Emitter(ServerLevel level, ParticleOptions particle, int particlesPerPoint) {
+			this.level = level;
+			this.particle = particle;
+			this.particlesPerPoint = particlesPerPoint;
+		}
+
+		@Override
+		public void accept(double x, double y, double z) {
+			for (int i = 0; i < particlesPerPoint; i++) {
+				spawned++;
+				receivers += level.sendParticles(particle, x, y, z, 1, 0, 0, 0, 0);
+			}
+		}
+	}
+
 	// Helper methods for particle effects
 	public static void spawnParticleLine(ServerLevel level, Vec3 start, Vec3 end,
 			net.minecraft.core.particles.ParticleOptions particle, int count) {
-		Vec3 direction = end.subtract(start);
-		for (int i = 0; i < count; i++) {
-			double t = i / (double) count;
-			Vec3 pos = start.add(direction.scale(t));
-			level.sendParticles(particle, pos.x, pos.y, pos.z, 1, 0, 0, 0, 0);
-		}
+		ModJfr.ParticleBurst burst = beginBurst();
+		Emitter emitter = new Emitter(level, particle, 1);
+		forEachLinePoint(start, end.subtract(start), 1.0, count, emitter);
+		commitBurst(burst, "line", emitter.spawned, emitter.receivers);
 	}
 
 	/**
@@ -25,27 +60,60 @@ public class ParticleHelper {
 	 */
 	public static void spawnForwardThrust(ServerLevel level, Vec3 start, Vec3 direction, double distance,
 			net.minecraft.core.particles.ParticleOptions particle, int count) {
-		for (int i = 0; i < count; i++) {
-			double t = i / (double) count;
-			Vec3 pos = start.add(direction.scale(distance * t));
-			level.sendParticles(particle, pos.x, pos.y, pos.z, 1, 0, 0, 0, 0);
-		}
+		ModJfr.ParticleBurst burst = beginBurst();
+		Emitter emitter = new Emitter(level, particle, 1);
+		forEachLinePoint(start, direction, distance, count, emitter);
+		commitBurst(burst, "thrust", emitter.spawned, emitter.receivers);
 	}
 
 	public static void spawnCircleParticles(ServerLevel level, Vec3 center, double radius, ParticleOptions particle,
 			int count) {
+		ModJfr.ParticleBurst burst = beginBurst();
+		int spawned = 0;
+		int receivers = 0;
 		for (int i = 0; i < count; i++) {
 			double angle = (i / (double) count) * Math.PI * 2;
 			double x = center.x + Math.cos(angle) * radius;
 			double z = center.z + Math.sin(angle) * radius;
-			level.sendParticles(particle, x, center.y, z, 1, 0, 0, 0, 0);
+			spawned++;
+			receivers += level.sendParticles(particle, x, center.y, z, 1, 0, 0, 0, 0);
 		}
+		commitBurst(burst, "circle", spawned, receivers);
 	}
 
 	public static void spawnHorizontalArc(ServerLevel level, Vec3 center, double yaw, double pitch, double baseRadius,
 			double radiusIncrement, int arcDegrees, double angleIncrement, double vert, ParticleOptions particle,
 			int count) {
+		ModJfr.ParticleBurst burst = beginBurst();
+		Emitter emitter = new Emitter(level, particle, ParticleConfig.particlesPerPosition);
+		forEachHorizontalArcPoint(center, yaw, pitch, baseRadius, radiusIncrement, arcDegrees, angleIncrement, vert,
+				emitter);
+		commitBurst(burst, "horizontalArc", emitter.spawned, emitter.receivers);
+	}
+
+	public static void spawnVerticalArc(ServerLevel level, Vec3 center, double yaw, double pitch, double baseRadius, double radiusIncrement, int arcDegrees, double angleIncrement, double hori,
+			ParticleOptions particle, int count) {
+		ModJfr.ParticleBurst burst = beginBurst();
+		Emitter emitter = new Emitter(level, particle, ParticleConfig.particlesPerPosition);
+		forEachVerticalArcPoint(center, yaw, pitch, hori, emitter);
+		commitBurst(burst, "verticalArc", emitter.spawned, emitter.receivers);
+	}
+
+	/**
+	 * Generate evenly spaced points from start along direction * distance (end point excluded)
+	 */
+	public static void forEachLinePoint(Vec3 start, Vec3 direction, double distance, int count, PointConsumer out) {
+		for (int i = 0; i < count; i++) {
+			double t = distance * (i / (double) count);
+			out.accept(start.x + direction.x * t, start.y + direction.y * t, start.z + direction.z * t);
+		}
+	}
 
+	/**
+	 * Generate the points of a horizontal sword arc, one per step and radial layer
+	 */
+	public static void forEachHorizontalArcPoint(Vec3 center, double yaw, double pitch, double baseRadius,
+			double radiusIncrement, int arcDegrees, double angleIncrement, double vert, PointConsumer out) {
 		// Create continuous particle arc without gaps
 		double totalSteps = arcDegrees / angleIncrement;
 		int stepsToProcess = (int) Math.ceil(totalSteps);
@@ -63,36 +131,15 @@ public class ParticleHelper {
 				double localZ = radius * Math.sin(arcAngle);
 				double localY = vert * Math.sin(arcAngle - Math.toRadians(ParticleConfig.particleArcDegrees / 2));
 
-				// ---- Apply pitch rotation FIRST (around X axis, tilts up/down)
-				double xPitch = localX;
-				double yPitch = localY * Math.cos(-pitch) - localZ * Math.sin(-pitch);
-				double zPitch = localY * Math.sin(-pitch) + localZ * Math.cos(-pitch);
-
-				// ---- Apply yaw rotation SECOND (around Y axis, spins left/right)
-				double xFinal = xPitch * Math.cos(yaw) - zPitch * Math.sin(yaw);
-				double yFinal = yPitch;
-				double zFinal = xPitch * Math.sin(yaw) + zPitch * Math.cos(yaw);
-
-				// ---- Translate to world coordinates
-				double worldX = center.x + xFinal;
-				double worldY = center.y + yFinal;
-				double worldZ = center.z + zFinal;
-
-				// Spawn particles directly
-				if (true) {
-					for (int i = 0; i < ParticleConfig.particlesPerPosition; i++) {
-						// System.out.println("Spawning particle at: " + worldX + ", " + worldY + ", " +
-						// worldZ);
-						level.sendParticles(particle, worldX, worldY, worldZ, 1, 0, 0, 0, 0);
-					}
-				}
+				emitRotated(center, yaw, pitch, localX, localY, localZ, out);
 			}
 		}
 	}
 
-	public static void spawnVerticalArc(ServerLevel level, Vec3 center, double yaw, double pitch, double baseRadius, double radiusIncrement, int arcDegrees, double angleIncrement, double hori,
-			ParticleOptions particle, int count) {
-
+	/**
+	 * Generate the points of a vertical sword arc, using the arc shape from ParticleConfig
+	 */
+	public static void forEachVerticalArcPoint(Vec3 center, double yaw, double pitch, double hori, PointConsumer out) {
 		// Create continuous particle arc without gaps
 		double totalSteps = ParticleConfig.particleArcDegrees / ParticleConfig.particleAngleIncrement;
 		int stepsToProcess = (int) Math.ceil(totalSteps);
@@ -111,29 +158,46 @@ public class ParticleHelper {
 				double localY = radius * Math.cos(arcAngle);
 				double localZ = radius * Math.sin(arcAngle);
 
-				// ---- Apply pitch rotation FIRST (around X axis, tilts up/down)
-				double xPitch = localX;
-				double yPitch = localY * Math.cos(-pitch) - localZ * Math.sin(-pitch);
-				double zPitch = localY * Math.sin(-pitch) + localZ * Math.cos(-pitch);
-
-				// ---- Apply yaw rotation SECOND (around Y axis, spins left/right)
-				double xFinal = xPitch * Math.cos(yaw) - zPitch * Math.sin(yaw);
-				double yFinal = yPitch;
-				double zFinal = xPitch * Math.sin(yaw) + zPitch * Math.cos(yaw);
-
-				// ---- Translate to world coordinates
-				double worldX = center.x + xFinal;
-				double worldY = center.y + yFinal;
-				double worldZ = center.z + zFinal;
-
-				// Spawn particles directly
-				if (true) {
-					for (int i = 0; i < ParticleConfig.particlesPerPosition; i++) {
-						//System.out.println("Spawning particle at: " + worldX + ", " + worldY + ", " + worldZ);
-						level.sendParticles(particle, worldX, worldY, worldZ, 1, 0, 0, 0, 0);
-					}
-				}
+				emitRotated(center, yaw, pitch, localX, localY, localZ, out);
 			}
 		}
 	}
+
+	private static void emitRotated(Vec3 center, double yaw, double pitch, double localX, double localY,
+			double localZ, PointConsumer out) {
+		// ---- Apply pitch rotation FIRST (around X axis, tilts up/down)
+		double xPitch = localX;
+		double yPitch = localY * Math.cos(-pitch) - localZ * Math.sin(-pitch);
+		double zPitch = localY * Math.sin(-pitch) + localZ * Math.cos(-pitch);
+
+		// ---- Apply yaw rotation SECOND (around Y axis, spins left/right)
+		double xFinal = xPitch * Math.cos(yaw) - zPitch * Math.sin(yaw);
+		double yFinal = yPitch;
+		double zFinal = xPitch * Math.sin(yaw) + zPitch * Math.cos(yaw);
+
+		// ---- Translate to world coordinates
+		out.accept(center.x + xFinal, center.y + yFinal, center.z + zFinal);
+	}
+
+	private static ModJfr.ParticleBurst beginBurst() {
+		if (!ModJfr.particleBurstEnabled()) {
+			return null;
+		}
+		ModJfr.ParticleBurst burst = new ModJfr.ParticleBurst();
+		burst.begin();
+		return burst;
+	}
+
+	private static void commitBurst(ModJfr.ParticleBurst burst, String shape, int count, int receivers) {
+		if (burst == null) {
+			return;
+		}
+		burst.end();
+		if (burst.shouldCommit()) {
+			burst.shape = shape;
+			burst.count = count;
+			burst.receivers = receivers;
+			burst.commit();
+		}
+	}
 }
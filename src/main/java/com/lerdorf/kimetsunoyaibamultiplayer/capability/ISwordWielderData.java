@@ -18,4 +18,24 @@ public interface ISwordWielderData {
 	 * @param model ResourceLocation of the model to use, or null to clear override
 	 */
 	void setSwordModelOverride(ResourceLocation model);
+
+	/**
+	 * @return Index of the selected breathing form
+	 */
+	int getFormIndex();
+
+	void setFormIndex(int index);
+
+	/**
+	 * Step the selected form forward or backward, wrapping around
+	 * @param maxForms Number of forms in the current technique
+	 */
+	void cycleForm(int maxForms, boolean backward);
+
+	/**
+	 * @return Game time of the last form use
+	 */
+	long getLastFormUseTick();
+
+	void setLastFormUseTick(long tick);
 }
@@ -5,6 +5,8 @@ import net.minecraft.resources.ResourceLocation;
 public class SwordWielderData implements ISwordWielderData {
 	private boolean cancellingAttackSwing = false;
 	private ResourceLocation swordModelOverride = null;
+	private int formIndex = 0;
+	private long lastFormUseTick = 0;
 
 	@Override
 	public boolean cancelAttackSwing() {
@@ -25,4 +27,32 @@ public class SwordWielderData implements ISwordWielderData {
 	public void setSwordModelOverride(ResourceLocation model) {
 		swordModelOverride = model;
 	}
+
+	@Override
+	public int getFormIndex() {
+		return formIndex;
+	}
+
+	@Override
+	public void setFormIndex(int index) {
+		formIndex = index;
+	}
+
+	@Override
+	public void cycleForm(int maxForms, boolean backward) {
+		if (maxForms <= 0) {
+			return;
+		}
+		formIndex = Math.floorMod(backward ? formIndex - 1 : formIndex + 1, maxForms);
+	}
+
+	@Override
+	public long getLastFormUseTick() {
+		return lastFormUseTick;
+	}
+
+	@Override
+	public void setLastFormUseTick(long tick) {
+		lastFormUseTick = tick;
+	}
 }
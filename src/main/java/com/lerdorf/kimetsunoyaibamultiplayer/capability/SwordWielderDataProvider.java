@@ -0,0 +1,45 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.capability;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ICapabilitySerializable;
+import net.minecraftforge.common.util.LazyOptional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Provides SWORD_WIELDER_DATA for one entity
+ * A single LazyOptional is handed out for the entity's lifetime and invalidated when it is removed.
+ * Only the selected breathing form is saved; the rest is transient combat state.
+ */
+public class SwordWielderDataProvider implements ICapabilitySerializable<CompoundTag> {
+	private static final String FORM_INDEX_TAG = "FormIndex";
+
+	private final SwordWielderData backend = new SwordWielderData();
+	private final LazyOptional<ISwordWielderData> optional = LazyOptional.of(() -> backend);
+
+	@Nonnull
+	@Override
+	public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction side) {
+		return cap == KimetsunoyaibaMultiplayer.SWORD_WIELDER_DATA ? optional.cast() : LazyOptional.empty();
+	}
+
+	@Override
+	public CompoundTag serializeNBT() {
+		CompoundTag tag = new CompoundTag();
+		tag.putInt(FORM_INDEX_TAG, backend.getFormIndex());
+		return tag;
+	}
+
+	@Override
+	public void deserializeNBT(CompoundTag tag) {
+		backend.setFormIndex(tag.getInt(FORM_INDEX_TAG));
+	}
+
+	public void invalidate() {
+		optional.invalidate();
+	}
+}
@@ -0,0 +1,100 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.client;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.CustomizeGuiOverlayEvent;
+import net.minecraftforge.client.event.RenderLevelStageEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Arrays;
+
+/**
+ * Distance-based animation level of detail for GeckoLib entities
+ * Decides per entity and frame whether bone animation is re-evaluated (see LodGeoModel)
+ * and whether equipment/armor layers are drawn at all.
+ */
+@Mod.EventBusSubscriber(modid = KimetsunoyaibaMultiplayer.MODID, value = Dist.CLIENT)
+public class AnimationLod {
+
+    public enum Tier {
+        FULL(1), HALF(2), QUARTER(4), FROZEN(32);
+
+        // Bone poses are re-evaluated once every this many frames
+        public final int frameInterval;
+
+        Tier(int frameInterval) {
+            this.frameInterval = frameInterval;
+        }
+    }
+
+    private static int frame = 0;
+
+    // Entities evaluated per tier, for the debug overlay (current frame and last complete frame)
+    private static final int[] tierCounts = new int[Tier.values().length];
+    private static final int[] lastTierCounts = new int[Tier.values().length];
+
+    /**
+     * @return The LOD tier for an entity, from its distance to the camera (call once per entity and frame)
+     */
+    public static Tier getTier(Entity entity) {
+        Tier tier = computeTier(entity);
+        tierCounts[tier.ordinal()]++;
+        return tier;
+    }
+
+    private static Tier computeTier(Entity entity) {
+        if (!EntityConfig.lodEnabled) {
+            return Tier.FULL;
+        }
+        double distanceSqr = cameraDistanceSqr(entity);
+        if (distanceSqr >= EntityConfig.lodFrozenDistanceSqr) return Tier.FROZEN;
+        if (distanceSqr >= EntityConfig.lodQuarterRateDistanceSqr) return Tier.QUARTER;
+        if (distanceSqr >= EntityConfig.lodHalfRateDistanceSqr) return Tier.HALF;
+        return Tier.FULL;
+    }
+
+    /**
+     * @return true if this entity's bone animation should be evaluated this frame.
+     *         Entity ids stagger the skipped frames so a crowd does not update all at once.
+     */
+    public static boolean shouldAnimate(Entity entity, Tier tier) {
+        return tier == Tier.FULL || Math.floorMod(frame + entity.getId(), tier.frameInterval) == 0;
+    }
+
+    /**
+     * @return true if equipment and armor layers should be skipped for this entity
+     */
+    public static boolean shouldSkipLayers(Entity entity) {
+        return EntityConfig.lodEnabled && cameraDistanceSqr(entity) >= EntityConfig.lodLayerCutoffDistanceSqr;
+    }
+
+    private static double cameraDistanceSqr(Entity entity) {
+        Vec3 camera = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+        return entity.distanceToSqr(camera);
+    }
+
+    @SubscribeEvent
+    public static void onRenderLevelStage(RenderLevelStageEvent event) {
+        // Once per frame, before entities are drawn
+        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_SKY) {
+            return;
+        }
+        frame++;
+        System.arraycopy(tierCounts, 0, lastTierCounts, 0, tierCounts.length);
+        Arrays.fill(tierCounts, 0);
+    }
+
+    @SubscribeEvent
+    public static void onDebugText(CustomizeGuiOverlayEvent.DebugText event) {
+        if (!EntityConfig.lodDebugOverlay) {
+            return;
+        }
+        event.getLeft().add(String.format("Anim LOD: full %d, 1/2 %d, 1/4 %d, frozen %d",
+            lastTierCounts[0], lastTierCounts[1], lastTierCounts[2], lastTierCounts[3]));
+    }
+}
@@ -69,11 +69,11 @@ public class AnimationSyncHandler {
         // Don't skip local player - they need to receive animations from breathing forms
         Player targetPlayer = mc.level.getPlayerByUUID(playerUUID);
         if (targetPlayer == null) {
-            Log.warn("Could not find player with UUID {} in level", playerUUID);
+            Log.warnLimited("Could not find player with UUID {} in level", playerUUID);
             return;
         }
         if (!(targetPlayer instanceof AbstractClientPlayer)) {
-            Log.warn("Player {} is not an AbstractClientPlayer, type: {}",
+            Log.warnLimited("Player {} is not an AbstractClientPlayer, type: {}",
                 targetPlayer.getName().getString(), targetPlayer.getClass().getSimpleName());
             return;
         }
@@ -203,7 +203,7 @@ public class AnimationSyncHandler {
 
             // Create new animation player with the received animation and speed
             KeyframeAnimationPlayer newAnimation = Math.abs(speed - 1.0f) > 0.01
-                ? new com.lerdorf.kimetsunoyaibamultiplayer.SpeedControlledAnimation(animation, speed)
+                ? new com.lerdorf.kimetsunoyaibamultiplayer.ScaledTimeAnimation(animation, speed)
                 : new KeyframeAnimationPlayer(animation);
 
             // Create modifier layer and set the animation
@@ -267,7 +267,7 @@ public class AnimationSyncHandler {
             }
 
             if (Config.logDebug) {
-                Log.warn("Could not find animation '{}' in registry with any namespace combination", animationName);
+                Log.warnLimited("Could not find animation '{}' in registry with any namespace combination", animationName);
                 logAvailableAnimations();
             }
 
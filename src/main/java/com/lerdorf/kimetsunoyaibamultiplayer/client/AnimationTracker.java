@@ -153,7 +153,7 @@ public class AnimationTracker {
                             processActiveAnimation(player, animPlayer, data);
                             break;
                         } else {
-                            Log.warn("KeyframeAnimationPlayer has null data for player {}", player.getName().getString());
+                            Log.warnLimited("KeyframeAnimationPlayer has null data for player {}", player.getName().getString());
                         }
                     } else {
                         if (Config.logDebug) {
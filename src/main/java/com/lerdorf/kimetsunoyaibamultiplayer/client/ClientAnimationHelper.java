@@ -1,6 +1,6 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.client;
 
-import com.lerdorf.kimetsunoyaibamultiplayer.SpeedControlledAnimation;
+import com.lerdorf.kimetsunoyaibamultiplayer.ScaledTimeAnimation;
 import dev.kosmx.playerAnim.api.layered.AnimationStack;
 import dev.kosmx.playerAnim.api.layered.IAnimation;
 import dev.kosmx.playerAnim.api.layered.KeyframeAnimationPlayer;
@@ -32,7 +32,7 @@ public class ClientAnimationHelper {
                 animationStack.removeLayer(layerPriority);
 
                 KeyframeAnimationPlayer animPlayer = Math.abs(speed-1) > 0.01
-                    ? new SpeedControlledAnimation(animation, speed)
+                    ? new ScaledTimeAnimation(animation, speed)
                     : new KeyframeAnimationPlayer(animation);
                 ModifierLayer<IAnimation> modifierLayer = new ModifierLayer<>();
                 modifierLayer.setAnimation(animPlayer);
@@ -36,6 +36,8 @@ public class ClientCommandHandler {
         com.lerdorf.kimetsunoyaibamultiplayer.commands.TestAnimCommand.register(dispatcher);
         com.lerdorf.kimetsunoyaibamultiplayer.commands.TestParticlesCommand.register(dispatcher);
         com.lerdorf.kimetsunoyaibamultiplayer.commands.DebugParticlesCommand.register(dispatcher);
+        com.lerdorf.kimetsunoyaibamultiplayer.commands.AnimationBenchmarkCommand.register(dispatcher);
+        com.lerdorf.kimetsunoyaibamultiplayer.commands.PerfCommand.registerClient(dispatcher);
 
         LiteralArgumentBuilder<CommandSourceStack> command = Commands.literal("testanimc")
             .executes(context -> {
@@ -1,6 +1,5 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.client;
 
-import com.lerdorf.kimetsunoyaibamultiplayer.Config;
 import com.lerdorf.kimetsunoyaibamultiplayer.Log;
 import com.lerdorf.kimetsunoyaibamultiplayer.proxy.IClientProxy;
 import net.minecraft.client.Minecraft;
@@ -19,10 +18,10 @@ public class ClientProxy implements IClientProxy {
 
     @Override
     public void handleSwordDisplaySync(UUID playerUUID, ItemStack leftHipSword, ItemStack rightHipSword) {
-        if (Config.logDebug) {
-            System.out.println("[DEBUG] Client received sword display sync for player " + playerUUID +
-                ": left=" + (leftHipSword.isEmpty() ? "empty" : leftHipSword.getItem().toString()) +
-                ", right=" + (rightHipSword.isEmpty() ? "empty" : rightHipSword.getItem().toString()));
+        if (Log.debugEnabled) {
+            Log.debug("Client received sword display sync for player {}: left={}, right={}", playerUUID,
+                leftHipSword.isEmpty() ? "empty" : leftHipSword.getItem(),
+                rightHipSword.isEmpty() ? "empty" : rightHipSword.getItem());
         }
 
         SwordDisplayTracker.updateRemotePlayerDisplay(playerUUID, leftHipSword, rightHipSword);
@@ -33,10 +32,9 @@ public class ClientProxy implements IClientProxy {
                                     int animationLength, boolean isLooping, boolean stopAnimation,
                                     ItemStack swordItem, ResourceLocation particleType,
                                     float speed, int layerPriority) {
-        if (Config.logDebug) {
-            System.out.println("[DEBUG] Client received animation sync for player " + playerUUID +
-                ": animation=" + animationId + ", tick=" + currentTick + ", stop=" + stopAnimation +
-                ", speed=" + speed + ", layer=" + layerPriority);
+        if (Log.debugEnabled) {
+            Log.debug("Client received animation sync for player {}: animation={}, tick={}, stop={}, speed={}, layer={}",
+                playerUUID, animationId, currentTick, stopAnimation, speed, layerPriority);
         }
 
         AnimationSyncHandler.handleAnimationSync(playerUUID, animationId, currentTick, animationLength,
@@ -72,9 +70,9 @@ public class ClientProxy implements IClientProxy {
                     com.lerdorf.kimetsunoyaibamultiplayer.compat.ShoulderSurfingCompat.setShoulderCameraRotation(yaw, pitch);
                 }
 
-                if (Config.logDebug) {
-                    System.out.println("[DEBUG] Client received rotation sync for player " +
-                        player.getName().getString() + ": yaw=" + yaw + ", pitch=" + pitch + ", headYaw=" + headYaw);
+                if (Log.debugEnabled) {
+                    Log.debug("Client received rotation sync for player {}: yaw={}, pitch={}, headYaw={}",
+                        player.getName().getString(), yaw, pitch, headYaw);
                 }
             }
         }
@@ -0,0 +1,140 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.client;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.entities.ModEntities;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.Vec3;
+import software.bernie.geckolib.animatable.GeoReplacedEntity;
+import software.bernie.geckolib.constant.DataTickets;
+import software.bernie.geckolib.core.animatable.GeoAnimatable;
+import software.bernie.geckolib.core.animatable.instance.AnimatableInstanceCache;
+import software.bernie.geckolib.core.animatable.instance.SingletonAnimatableInstanceCache;
+import software.bernie.geckolib.core.animation.AnimatableManager;
+import software.bernie.geckolib.core.animation.Animation;
+import software.bernie.geckolib.core.animation.AnimationController;
+import software.bernie.geckolib.core.animation.AnimationState;
+import software.bernie.geckolib.core.animation.RawAnimation;
+import software.bernie.geckolib.core.object.PlayState;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Singleton GeckoLib animatable standing in for kasugai_crow entities in render proxy mode.
+ * Animation state is derived from the original crow's own synced data (gravity, ground, motion, death),
+ * so no mirror entity or extra network traffic is needed. Per-crow controller state lives in the
+ * instance cache keyed by entity id.
+ */
+public class CrowProxyAnimatable implements GeoReplacedEntity {
+    public static final CrowProxyAnimatable INSTANCE = new CrowProxyAnimatable();
+
+    private static final RawAnimation IDLE = RawAnimation.begin()
+        .thenLoop("kimetsunoyaibamultiplayer.crow.idle");
+    private static final RawAnimation WALK = RawAnimation.begin()
+        .thenLoop("kimetsunoyaibamultiplayer.crow.walk");
+    private static final RawAnimation TAKEOFF = RawAnimation.begin()
+        .then("kimetsunoyaibamultiplayer.crow.takeoff", Animation.LoopType.PLAY_ONCE)
+        .thenLoop("kimetsunoyaibamultiplayer.crow.flying");
+    private static final RawAnimation LANDING = RawAnimation.begin()
+        .then("kimetsunoyaibamultiplayer.crow.landing", Animation.LoopType.PLAY_ONCE)
+        .thenLoop("kimetsunoyaibamultiplayer.crow.idle");
+    private static final RawAnimation DEATH = RawAnimation.begin()
+        .then("kimetsunoyaibamultiplayer.crow.death", Animation.LoopType.HOLD_ON_LAST_FRAME);
+
+    // Last animation chosen per crow, used to detect takeoff/landing transitions
+    private static final Map<UUID, RawAnimation> lastAnimation = new HashMap<>();
+
+    private final ProxyInstanceCache cache = new ProxyInstanceCache(this);
+
+    private CrowProxyAnimatable() {
+    }
+
+    @Override
+    public EntityType<?> getReplacingEntityType() {
+        // Only used by GeckoLib for bookkeeping; the proxy is bound to crows by CrowProxyRenderHandler
+        return ModEntities.GECKOLIB_CROW.get();
+    }
+
+    @Override
+    public void registerControllers(AnimatableManager.ControllerRegistrar controllers) {
+        controllers.add(new AnimationController<>(this, "crow_controller", 0, this::animationPredicate));
+    }
+
+    private PlayState animationPredicate(AnimationState<CrowProxyAnimatable> event) {
+        Entity entity = event.getData(DataTickets.ENTITY);
+        if (entity == null) {
+            return PlayState.STOP;
+        }
+
+        RawAnimation animation;
+        if (entity instanceof LivingEntity living && living.isDeadOrDying()) {
+            animation = DEATH;
+        } else {
+            RawAnimation last = lastAnimation.get(entity.getUUID());
+            boolean inFlight = last == TAKEOFF;
+
+            // The crow enhancement handler disables gravity for the whole flight and re-enables it to land
+            if (entity.isNoGravity() && !entity.onGround()) {
+                animation = TAKEOFF;
+            } else if (!entity.onGround() && inFlight) {
+                animation = TAKEOFF; // Descending after flight, keep flapping until touchdown
+            } else if (inFlight || (last == LANDING && isStill(entity))) {
+                animation = LANDING;
+            } else if (isMovingOnGround(entity)) {
+                animation = WALK;
+            } else {
+                animation = IDLE;
+            }
+        }
+
+        lastAnimation.put(entity.getUUID(), animation);
+        event.getController().setAnimation(animation);
+        return PlayState.CONTINUE;
+    }
+
+    private static boolean isMovingOnGround(Entity entity) {
+        return entity.onGround() && !isStill(entity);
+    }
+
+    private static boolean isStill(Entity entity) {
+        Vec3 deltaMovement = entity.getDeltaMovement();
+        return deltaMovement.x * deltaMovement.x + deltaMovement.z * deltaMovement.z <= 0.0001;
+    }
+
+    /**
+     * Drop per-crow animation state (called when the crow leaves the client level)
+     */
+    public static void forget(Entity entity) {
+        lastAnimation.remove(entity.getUUID());
+        INSTANCE.cache.remove(entity.getId());
+    }
+
+    public static void clearAll() {
+        lastAnimation.clear();
+        INSTANCE.cache.clear();
+    }
+
+    @Override
+    public AnimatableInstanceCache getAnimatableInstanceCache() {
+        return cache;
+    }
+
+    /**
+     * Singleton cache that can forget a crow's manager once the crow is gone
+     */
+    private static class ProxyInstanceCache extends SingletonAnimatableInstanceCache {
+        ProxyInstanceCache(GeoAnimatable animatable) {
+            super(animatable);
+        }
+
+        void remove(long id) {
+            this.managers.remove(id);
+        }
+
+        void clear() {
+            this.managers.clear();
+        }
+    }
+}
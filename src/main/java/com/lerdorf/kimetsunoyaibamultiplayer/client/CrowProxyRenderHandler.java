@@ -0,0 +1,69 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.client;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.client.renderer.CrowProxyRenderer;
+import com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig;
+import com.lerdorf.kimetsunoyaibamultiplayer.entities.KasugaiCrowIndex;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.client.event.RenderLivingEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Render proxy mode: draws kasugai_crow entities with the GeckoLib crow model in place of
+ * their own renderer, so the server never has to spawn and sync GeckolibCrowEntity mirrors
+ */
+@Mod.EventBusSubscriber(modid = KimetsunoyaibaMultiplayer.MODID, value = Dist.CLIENT)
+public class CrowProxyRenderHandler {
+
+    // Created once renderers are built (see CrowRendererManager)
+    private static CrowProxyRenderer proxyRenderer = null;
+
+    static void setRenderer(CrowProxyRenderer renderer) {
+        proxyRenderer = renderer;
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public static void onRenderLiving(RenderLivingEvent.Pre<?, ?> event) {
+        if (proxyRenderer == null || !EntityConfig.serverUsesCrowRenderProxy()) {
+            return;
+        }
+
+        LivingEntity entity = event.getEntity();
+        if (!KasugaiCrowIndex.isKasugaiCrow(entity)) {
+            return;
+        }
+
+        event.setCanceled(true);
+        if (entity.isInvisible()) {
+            return; // Mirror left over from before the switch is still hiding it (or the crow is genuinely invisible)
+        }
+
+        proxyRenderer.render(entity, entity.getYRot(), event.getPartialTick(),
+            event.getPoseStack(), event.getMultiBufferSource(), event.getPackedLight());
+    }
+
+    /**
+     * Forget the server's render mode on disconnect; the next server sends its own on login
+     */
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        EntityConfig.serverCrowRenderMode = EntityConfig.CrowRenderMode.MIRROR_ENTITY;
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            return;
+        }
+        Entity entity = event.getEntity();
+        if (KasugaiCrowIndex.isKasugaiCrow(entity)) {
+            CrowProxyAnimatable.forget(entity);
+        }
+    }
+}
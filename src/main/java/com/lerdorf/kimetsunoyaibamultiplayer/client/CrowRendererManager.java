@@ -4,6 +4,7 @@ import com.lerdorf.kimetsunoyaibamultiplayer.Config;
 import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
 import com.lerdorf.kimetsunoyaibamultiplayer.Log;
 import com.lerdorf.kimetsunoyaibamultiplayer.client.renderer.CrowGeoRenderer;
+import com.lerdorf.kimetsunoyaibamultiplayer.client.renderer.CrowProxyRenderer;
 import com.lerdorf.kimetsunoyaibamultiplayer.entities.ModEntities;
 import com.mojang.logging.LogUtils;
 import net.minecraft.client.renderer.entity.EntityRenderers;
@@ -30,4 +31,10 @@ public class CrowRendererManager {
         if (Config.logDebug)
         	Log.info("Entity renderers registered successfully");
     }
-}
\ No newline at end of file
+
+    @SubscribeEvent
+    public static void onAddLayers(EntityRenderersEvent.AddLayers event) {
+        // Built unconditionally so the render mode can be switched by a config reload
+        CrowProxyRenderHandler.setRenderer(new CrowProxyRenderer(event.getContext()));
+    }
+}
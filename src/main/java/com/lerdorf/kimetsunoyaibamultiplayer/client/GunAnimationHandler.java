@@ -1,6 +1,7 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.client;
 
 import com.lerdorf.kimetsunoyaibamultiplayer.Config;
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
 import com.lerdorf.kimetsunoyaibamultiplayer.Log;
 import com.mojang.logging.LogUtils;
 import dev.kosmx.playerAnim.api.layered.AnimationStack;
@@ -19,23 +20,49 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * Handles gun-specific animations for players and mobs holding rifles, pistols, or miniguns
  * Replaces idle/walk/attack animations with gun-specific versions
+ *
+ * LivingEquipmentChangeEvent only fires on the server, so remote entities are marked dirty when
+ * they load and when the server reports a gun change (GunEquipmentSync). Each tick only dirty
+ * entities get reclassified and only armed entities get the idle/walk animation checks, so the
+ * cost scales with armed entities rather than every mob near the player.
  */
+@Mod.EventBusSubscriber(modid = KimetsunoyaibaMultiplayer.MODID, value = Dist.CLIENT)
 public class GunAnimationHandler {
 
     // Track current gun type for each entity
     private static final Map<UUID, GunType> currentGunType = new HashMap<>();
     private static final Map<UUID, AnimationState> currentAnimationState = new HashMap<>();
 
+    // Ids of remote entities whose held items need reclassifying on the next tick
+    private static final IntOpenHashSet dirtyEntities = new IntOpenHashSet();
+
+    // Remote entities currently holding a gun
+    private static final Map<UUID, LivingEntity> armedEntities = new HashMap<>();
+
+    // One-time classification per item (items are registry singletons, so identity is enough)
+    private static final Map<Item, GunType> itemGunTypes = new IdentityHashMap<>();
+
     public enum GunType {
         RIFLE("rifle"),
         PISTOL("pistol"),
@@ -59,23 +86,14 @@ public class GunAnimationHandler {
      * Detect what type of gun the entity is holding
      */
     public static GunType getGunType(LivingEntity entity) {
-        ItemStack mainHand = entity.getItemInHand(InteractionHand.MAIN_HAND);
-        ItemStack offHand = entity.getItemInHand(InteractionHand.OFF_HAND);
-
-        String mainItemId = mainHand.getItem().toString();
-        String offItemId = offHand.getItem().toString();
-
         // Check main hand first
-        if (mainItemId.contains("rifle")) {
-            return GunType.RIFLE;
-        } else if (mainItemId.contains("minigun")) {
-            return GunType.MINIGUN;
-        } else if (mainItemId.contains("pistol")) {
-            return GunType.PISTOL;
+        GunType mainGun = classifyItem(entity.getItemInHand(InteractionHand.MAIN_HAND).getItem());
+        if (mainGun != GunType.NONE) {
+            return mainGun;
         }
 
         // Check off hand for pistol
-        if (offItemId.contains("pistol")) {
+        if (classifyItem(entity.getItemInHand(InteractionHand.OFF_HAND).getItem()) == GunType.PISTOL) {
             return GunType.PISTOL;
         }
 
@@ -86,24 +104,36 @@ public class GunAnimationHandler {
      * Check if entity is holding a pistol (in either hand)
      */
     public static boolean isHoldingPistol(LivingEntity entity) {
-        ItemStack mainHand = entity.getItemInHand(InteractionHand.MAIN_HAND);
-        ItemStack offHand = entity.getItemInHand(InteractionHand.OFF_HAND);
+        return classifyItem(entity.getItemInHand(InteractionHand.MAIN_HAND).getItem()) == GunType.PISTOL ||
+               classifyItem(entity.getItemInHand(InteractionHand.OFF_HAND).getItem()) == GunType.PISTOL;
+    }
 
-        return mainHand.getItem().toString().contains("pistol") ||
-               offHand.getItem().toString().contains("pistol");
+    /**
+     * Get the gun type of an item, classifying it by name the first time it is seen
+     */
+    public static GunType classifyItem(Item item) {
+        GunType type = itemGunTypes.get(item);
+        if (type == null) {
+            String itemId = item.toString();
+            if (itemId.contains("rifle")) {
+                type = GunType.RIFLE;
+            } else if (itemId.contains("minigun")) {
+                type = GunType.MINIGUN;
+            } else if (itemId.contains("pistol")) {
+                type = GunType.PISTOL;
+            } else {
+                type = GunType.NONE;
+            }
+            itemGunTypes.put(item, type);
+        }
+        return type;
     }
 
     /**
      * Check if item is a gun from kimetsunoyaiba mod
      */
     public static boolean isGun(ItemStack item) {
-        ResourceLocation itemId = net.minecraftforge.registries.ForgeRegistries.ITEMS.getKey(item.getItem());
-        if (itemId == null) return false;
-
-        return itemId.getNamespace().equals("kimetsunoyaiba") &&
-               (itemId.getPath().contains("rifle") ||
-                itemId.getPath().contains("pistol") ||
-                itemId.getPath().contains("minigun"));
+        return com.lerdorf.kimetsunoyaibamultiplayer.network.GunEquipmentSync.isGunItem(item);
     }
 
     /**
@@ -150,47 +180,115 @@ public class GunAnimationHandler {
     }
 
     /**
-     * Update gun animations for all nearby entities (players and mobs)
-     * Called every tick to ensure correct animations are playing for entities holding guns
+     * Classify remote living entities once as they load, after their equipment has arrived
      */
-    public static void updateAllEntityGunAnimations() {
-        Minecraft mc = Minecraft.getInstance();
-        if (mc.level == null || mc.player == null) {
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
             return;
         }
+        if (event.getEntity() instanceof LivingEntity living && living != Minecraft.getInstance().player) {
+            dirtyEntities.add(living.getId());
+        }
+    }
 
-        // Check all nearby living entities
-        for (LivingEntity entity : mc.level.getEntitiesOfClass(LivingEntity.class,
-                mc.player.getBoundingBox().inflate(64))) {
+    /**
+     * Reclassify an entity on the next tick (called when the server reports a gun change)
+     */
+    public static void markDirty(int entityId) {
+        dirtyEntities.add(entityId);
+    }
 
-            // Skip local player (handled separately)
-            if (entity.getUUID().equals(mc.player.getUUID())) {
-                continue;
+    private static void processDirtyEntities() {
+        if (dirtyEntities.isEmpty()) {
+            return;
+        }
+
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level != null) {
+            IntIterator iterator = dirtyEntities.iterator();
+            while (iterator.hasNext()) {
+                // Local player is handled separately
+                if (mc.level.getEntity(iterator.nextInt()) instanceof LivingEntity entity && entity != mc.player) {
+                    updateArmedState(entity);
+                }
             }
+        }
+        dirtyEntities.clear();
+    }
 
-            // Only process entities holding guns
-            GunType gunType = getGunType(entity);
-            if (gunType == GunType.NONE) {
-                continue;
+    /**
+     * Track a remote entity that picked up or dropped a gun
+     */
+    private static void updateArmedState(LivingEntity entity) {
+        UUID entityId = entity.getUUID();
+        GunType gunType = getGunType(entity);
+        GunType previousGun = currentGunType.get(entityId);
+        if (previousGun == gunType) {
+            return;
+        }
+
+        if (Config.logDebug) {
+            Log.info("Entity {} gun type changed: {} -> {}",
+                    entity.getName().getString(), previousGun, gunType);
+        }
+
+        if (gunType == GunType.NONE) {
+            // Gun was unequipped, stop the gun animations
+            armedEntities.remove(entityId);
+            if (previousGun != null) {
+                stopEntityGunAnimation(entity);
             }
+            clearEntity(entityId);
+            return;
+        }
 
-            UUID entityId = entity.getUUID();
+        currentGunType.put(entityId, gunType);
+        // Force the idle/walk animation for the new gun to be picked up on the next tick
+        currentAnimationState.remove(entityId);
+        armedEntities.put(entityId, entity);
+    }
 
-            // Check if gun type changed
-            GunType previousGun = currentGunType.get(entityId);
-            if (previousGun != gunType) {
-                currentGunType.put(entityId, gunType);
-                if (Config.logDebug) {
-                    Log.info("Entity {} gun type changed: {} -> {}",
-                            entity.getName().getString(), previousGun, gunType);
-                }
+    /**
+     * Evict tracking data when an entity unloads on the client
+     */
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            return;
+        }
+        UUID entityId = event.getEntity().getUUID();
+        dirtyEntities.remove(event.getEntity().getId());
+        armedEntities.remove(entityId);
+        clearEntity(entityId);
+    }
 
-                // If gun was unequipped, stop the gun animations
-                if (gunType == GunType.NONE && previousGun != null) {
-                    stopEntityGunAnimation(entity);
-                    currentAnimationState.remove(entityId);
-                    continue;
-                }
+    /**
+     * Update gun animations for armed remote entities (players and mobs)
+     * Called every tick; reclassifies dirty entities, then watches for idle/walk transitions of
+     * entities holding guns
+     */
+    public static void updateAllEntityGunAnimations() {
+        processDirtyEntities();
+        if (armedEntities.isEmpty()) {
+            return;
+        }
+
+        Iterator<Map.Entry<UUID, LivingEntity>> iterator = armedEntities.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, LivingEntity> entry = iterator.next();
+            LivingEntity entity = entry.getValue();
+
+            if (entity.isRemoved()) {
+                iterator.remove();
+                currentGunType.remove(entry.getKey());
+                currentAnimationState.remove(entry.getKey());
+                continue;
+            }
+
+            GunType gunType = currentGunType.get(entry.getKey());
+            if (gunType == null || gunType == GunType.NONE) {
+                continue;
             }
 
             // Determine animation state
@@ -202,9 +300,9 @@ public class GunAnimationHandler {
             }
 
             // Check if state changed
-            AnimationState previousState = currentAnimationState.get(entityId);
+            AnimationState previousState = currentAnimationState.get(entry.getKey());
             if (previousState != state) {
-                currentAnimationState.put(entityId, state);
+                currentAnimationState.put(entry.getKey(), state);
 
                 // Apply animation based on entity type
                 if (entity instanceof AbstractClientPlayer clientPlayer) {
@@ -260,7 +358,7 @@ public class GunAnimationHandler {
 
         if (animation == null) {
         	if (Config.logDebug)
-        		Log.warn("Animation not found in registry: {} (tried {} namespaces)", animationName, possibleLocations.length);
+        		Log.warnLimited("Animation not found in registry: {} (tried {} namespaces)", animationName, possibleLocations.length);
             return;
         }
 
@@ -274,7 +372,7 @@ public class GunAnimationHandler {
             }
         } else {
         	if (Config.logDebug)
-        		Log.warn("No animation stack available for player: {}", player.getName().getString());
+        		Log.warnLimited("No animation stack available for player: {}", player.getName().getString());
         }
     }
 
@@ -591,6 +689,8 @@ public class GunAnimationHandler {
     public static void clearAll() {
         currentGunType.clear();
         currentAnimationState.clear();
+        armedEntities.clear();
+        dirtyEntities.clear();
         if (Config.logDebug)
         	Log.info("Cleared all gun animation data");
     }
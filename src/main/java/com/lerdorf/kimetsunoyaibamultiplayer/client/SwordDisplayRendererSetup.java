@@ -11,7 +11,9 @@ import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.LivingEntityRenderer;
 import net.minecraft.client.renderer.entity.player.PlayerRenderer;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraftforge.client.event.EntityRenderersEvent;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
@@ -32,6 +34,12 @@ public class SwordDisplayRendererSetup {
         Log.info("Sword display renderer layers added successfully");
     }
 
+    @SubscribeEvent
+    public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+        // Baked models are rebuilt on resource reload, so drop the cached ones
+        event.registerReloadListener((ResourceManagerReloadListener) resourceManager -> SwordDisplayRenderer.clearModelCache());
+    }
+
     private static void addLayerToPlayerSkin(EntityRenderersEvent.AddLayers event, String skinName) {
         EntityRenderer<? extends net.minecraft.world.entity.player.Player> renderer = event.getSkin(skinName);
 
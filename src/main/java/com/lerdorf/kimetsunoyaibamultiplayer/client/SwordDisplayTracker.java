@@ -5,13 +5,15 @@ import com.lerdorf.kimetsunoyaibamultiplayer.Log;
 import com.lerdorf.kimetsunoyaibamultiplayer.config.SwordDisplayConfig;
 import com.lerdorf.kimetsunoyaibamultiplayer.particles.SwordParticleMapping;
 import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import java.util.*;
 
 /**
  * Tracks which swords should be displayed on which players
- * Monitors inventory changes and held item changes
+ * Monitors inventory changes and held item changes of the local player;
+ * remote players are driven purely by SwordDisplaySyncPacket
  */
 public class SwordDisplayTracker {
     // Per-player tracking: UUID -> SwordDisplayState
@@ -20,7 +22,15 @@ public class SwordDisplayTracker {
     // Track previous held items to detect changes
     private static final Map<UUID, ItemStack> previousHeldItems = new HashMap<>();
 
+    // Local inventory fingerprint: Inventory#getTimesChanged is bumped by every slot write,
+    // including server-synced ones, so the slot scans only run when it moves
+    private static Inventory watchedInventory = null;
+    private static int lastInventoryFingerprint = -1;
+
     public static class SwordDisplayState {
+        // Shared state handed out for players without a display; never mutated
+        public static final SwordDisplayState EMPTY = new SwordDisplayState();
+
         public ItemStack leftHipSword = ItemStack.EMPTY;
         public ItemStack rightHipSword = ItemStack.EMPTY;
 
@@ -47,14 +57,12 @@ public class SwordDisplayTracker {
         }
 
         Minecraft mc = Minecraft.getInstance();
-        if (mc.level == null) {
+        if (mc.level == null || mc.player == null) {
             return;
         }
 
-        // Update for all players in view
-        for (Player player : mc.level.players()) {
-            updatePlayerSwordDisplay(player);
-        }
+        // Only the local player's inventory is known here; remote players arrive via sync packets
+        updatePlayerSwordDisplay(mc.player);
     }
 
     /**
@@ -115,7 +123,15 @@ public class SwordDisplayTracker {
             previousHeldItems.put(playerUUID, heldItem.copy());
         }
 
-        // Check if displayed swords are still in inventory
+        // Check if displayed swords are still in inventory (only when a slot changed)
+        Inventory inventory = player.getInventory();
+        int fingerprint = inventory.getTimesChanged();
+        if (inventory == watchedInventory && fingerprint == lastInventoryFingerprint) {
+            return;
+        }
+        watchedInventory = inventory;
+        lastInventoryFingerprint = fingerprint;
+
         boolean stateChanged = false;
         if (state.hasLeftSword() && !hasItemInInventory(player, state.leftHipSword)) {
             if (Config.logDebug) {
@@ -196,7 +212,8 @@ public class SwordDisplayTracker {
      * Gets the current display state for a player
      */
     public static SwordDisplayState getDisplayState(UUID playerUUID) {
-        return playerStates.getOrDefault(playerUUID, new SwordDisplayState());
+        SwordDisplayState state = playerStates.get(playerUUID);
+        return state != null ? state : SwordDisplayState.EMPTY;
     }
 
     /**
@@ -205,6 +222,8 @@ public class SwordDisplayTracker {
     public static void clearAll() {
         playerStates.clear();
         previousHeldItems.clear();
+        watchedInventory = null;
+        lastInventoryFingerprint = -1;
         Log.debug("Cleared all sword display tracking data");
     }
 
@@ -3,16 +3,16 @@ package com.lerdorf.kimetsunoyaibamultiplayer.client.model;
 import com.lerdorf.kimetsunoyaibamultiplayer.Config;
 import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
 import com.lerdorf.kimetsunoyaibamultiplayer.Log;
-import com.lerdorf.kimetsunoyaibamultiplayer.entities.GeckolibCrowEntity;
 import com.mojang.logging.LogUtils;
 import net.minecraft.resources.ResourceLocation;
-import software.bernie.geckolib.model.GeoModel;
+import software.bernie.geckolib.core.animatable.GeoAnimatable;
 
 /**
- * GeckoLib model for GeckolibCrowEntity
- * Provides the model, texture, and animation files for rendering
+ * GeckoLib model for crows
+ * Provides the model, texture, and animation files for rendering, shared by the
+ * GeckolibCrowEntity mirror and the render-only crow proxy
  */
-public class CrowGeoModel extends GeoModel<GeckolibCrowEntity> {
+public class CrowGeoModel<T extends GeoAnimatable> extends LodGeoModel<T> {
     private static boolean hasLoggedResources = false;
 
     private static final ResourceLocation MODEL = ResourceLocation.tryBuild(
@@ -31,7 +31,7 @@ public class CrowGeoModel extends GeoModel<GeckolibCrowEntity> {
     );
 
     @Override
-    public ResourceLocation getModelResource(GeckolibCrowEntity animatable) {
+    public ResourceLocation getModelResource(T animatable) {
         if (!hasLoggedResources) {
         	if (Config.logDebug) {
 	            Log.info("=== CROW MODEL RESOURCES ===");
@@ -45,12 +45,12 @@ public class CrowGeoModel extends GeoModel<GeckolibCrowEntity> {
     }
 
     @Override
-    public ResourceLocation getTextureResource(GeckolibCrowEntity animatable) {
+    public ResourceLocation getTextureResource(T animatable) {
         return TEXTURE;
     }
 
     @Override
-    public ResourceLocation getAnimationResource(GeckolibCrowEntity animatable) {
+    public ResourceLocation getAnimationResource(T animatable) {
         return ANIMATION;
     }
 }
\ No newline at end of file
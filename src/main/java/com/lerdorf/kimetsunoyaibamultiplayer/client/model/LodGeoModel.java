@@ -0,0 +1,90 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.client.model;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.client.AnimationLod;
+import net.minecraft.world.entity.Entity;
+import software.bernie.geckolib.constant.DataTickets;
+import software.bernie.geckolib.core.animatable.GeoAnimatable;
+import software.bernie.geckolib.core.animatable.model.CoreGeoBone;
+import software.bernie.geckolib.core.animation.AnimationState;
+import software.bernie.geckolib.model.GeoModel;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * GeoModel with distance-based animation LOD.
+ * On frames where an entity's tier skips evaluation, the bone pose cached from its last full
+ * evaluation is written back instead of running the animation controllers. Bones are shared by
+ * every instance of the model, so the cached pose always has to be restored, never just left.
+ */
+public abstract class LodGeoModel<T extends GeoAnimatable> extends GeoModel<T> {
+    // rotX/Y/Z, posX/Y/Z, scaleX/Y/Z, hidden, childrenHidden
+    private static final int BONE_STRIDE = 11;
+
+    // Last evaluated pose per entity, dropped with the entity
+    private final Map<Entity, float[]> cachedPoses = new WeakHashMap<>();
+
+    @Override
+    public void handleAnimations(T animatable, long instanceId, AnimationState<T> animationState) {
+        Entity entity = animatable instanceof Entity self ? self : animationState.getData(DataTickets.ENTITY);
+        if (entity == null) {
+            super.handleAnimations(animatable, instanceId, animationState);
+            return;
+        }
+
+        Collection<CoreGeoBone> bones = getAnimationProcessor().getRegisteredBones();
+        float[] pose = cachedPoses.get(entity);
+        AnimationLod.Tier tier = AnimationLod.getTier(entity);
+
+        if (pose != null && pose.length == bones.size() * BONE_STRIDE && !AnimationLod.shouldAnimate(entity, tier)) {
+            restorePose(bones, pose);
+            return;
+        }
+
+        super.handleAnimations(animatable, instanceId, animationState);
+
+        if (tier == AnimationLod.Tier.FULL && pose == null) {
+            return; // Close entities never read the cache, don't build one until they move away
+        }
+        if (pose == null || pose.length != bones.size() * BONE_STRIDE) {
+            pose = new float[bones.size() * BONE_STRIDE];
+            cachedPoses.put(entity, pose);
+        }
+        capturePose(bones, pose);
+    }
+
+    private static void capturePose(Collection<CoreGeoBone> bones, float[] pose) {
+        int i = 0;
+        for (CoreGeoBone bone : bones) {
+            pose[i++] = bone.getRotX();
+            pose[i++] = bone.getRotY();
+            pose[i++] = bone.getRotZ();
+            pose[i++] = bone.getPosX();
+            pose[i++] = bone.getPosY();
+            pose[i++] = bone.getPosZ();
+            pose[i++] = bone.getScaleX();
+            pose[i++] = bone.getScaleY();
+            pose[i++] = bone.getScaleZ();
+            pose[i++] = bone.isHidden() ? 1 : 0;
+            pose[i++] = bone.isHidingChildren() ? 1 : 0;
+        }
+    }
+
+    private static void restorePose(Collection<CoreGeoBone> bones, float[] pose) {
+        int i = 0;
+        for (CoreGeoBone bone : bones) {
+            bone.setRotX(pose[i++]);
+            bone.setRotY(pose[i++]);
+            bone.setRotZ(pose[i++]);
+            bone.setPosX(pose[i++]);
+            bone.setPosY(pose[i++]);
+            bone.setPosZ(pose[i++]);
+            bone.setScaleX(pose[i++]);
+            bone.setScaleY(pose[i++]);
+            bone.setScaleZ(pose[i++]);
+            bone.setHidden(pose[i++] != 0);
+            bone.setChildrenHidden(pose[i++] != 0);
+        }
+    }
+}
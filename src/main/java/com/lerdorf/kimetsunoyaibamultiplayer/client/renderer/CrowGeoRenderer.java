@@ -18,7 +18,7 @@ public class CrowGeoRenderer extends GeoEntityRenderer<GeckolibCrowEntity> {
     private static boolean hasLoggedRender = false;
 
     public CrowGeoRenderer(EntityRendererProvider.Context renderManager) {
-        super(renderManager, new CrowGeoModel());
+        super(renderManager, new CrowGeoModel<>());
         this.shadowRadius = 0.3f;
         if (Config.logDebug)
         	Log.info("CrowGeoRenderer initialized with GeckoLib model");
@@ -0,0 +1,19 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.client.renderer;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.client.CrowProxyAnimatable;
+import com.lerdorf.kimetsunoyaibamultiplayer.client.model.CrowGeoModel;
+import net.minecraft.client.renderer.entity.EntityRendererProvider;
+import net.minecraft.world.entity.LivingEntity;
+import software.bernie.geckolib.renderer.GeoReplacedEntityRenderer;
+
+/**
+ * GeckoLib renderer that draws an original kasugai_crow with the crow model (render proxy mode)
+ * Hurt/death flash comes from the crow's own hurtTime via GeoReplacedEntityRenderer's overlay handling
+ */
+public class CrowProxyRenderer extends GeoReplacedEntityRenderer<LivingEntity, CrowProxyAnimatable> {
+
+    public CrowProxyRenderer(EntityRendererProvider.Context renderManager) {
+        super(renderManager, new CrowGeoModel<>(), CrowProxyAnimatable.INSTANCE);
+        this.shadowRadius = 0.3f;
+    }
+}
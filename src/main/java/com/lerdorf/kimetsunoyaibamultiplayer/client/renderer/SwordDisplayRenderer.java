@@ -2,23 +2,34 @@ package com.lerdorf.kimetsunoyaibamultiplayer.client.renderer;
 
 import com.lerdorf.kimetsunoyaibamultiplayer.client.SwordDisplayTracker;
 import com.lerdorf.kimetsunoyaibamultiplayer.config.SwordDisplayConfig;
+import com.lerdorf.kimetsunoyaibamultiplayer.config.SwordDisplayPoses;
 import com.mojang.blaze3d.vertex.PoseStack;
-import com.mojang.math.Axis;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.model.PlayerModel;
 import net.minecraft.client.player.AbstractClientPlayer;
 import net.minecraft.client.renderer.ItemInHandRenderer;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.entity.ItemRenderer;
 import net.minecraft.client.renderer.entity.RenderLayerParent;
 import net.minecraft.client.renderer.entity.layers.RenderLayer;
-import net.minecraft.world.entity.HumanoidArm;
-import net.minecraft.world.entity.player.Player;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Renders swords attached to player models (on hip or back)
+ * Transforms come prebaked from SwordDisplayPoses and baked models are cached per displayed stack,
+ * so this layer allocates nothing per frame.
  */
 public class SwordDisplayRenderer extends RenderLayer<AbstractClientPlayer, PlayerModel<AbstractClientPlayer>> {
+    // Displayed stacks are copies owned by SwordDisplayTracker, so identity is a stable key;
+    // entries go away with the stack once the display changes
+    private static final Map<ItemStack, BakedModel> modelCache = new WeakHashMap<>();
+
     private final ItemInHandRenderer itemInHandRenderer;
 
     public SwordDisplayRenderer(RenderLayerParent<AbstractClientPlayer, PlayerModel<AbstractClientPlayer>> parent,
@@ -55,87 +66,44 @@ public class SwordDisplayRenderer extends RenderLayer<AbstractClientPlayer, Play
      */
     private void renderSword(PoseStack poseStack, MultiBufferSource buffer, int packedLight,
                             AbstractClientPlayer player, ItemStack sword, boolean isLeft) {
-        poseStack.pushPose();
-
-        // Get the display position from config
-        SwordDisplayConfig.SwordDisplayPosition position = SwordDisplayConfig.position;
+        SwordDisplayPoses.Pose pose = SwordDisplayPoses.get(isLeft);
+        if (pose == null) {
+            return; // Config not loaded yet
+        }
 
-        if (position == SwordDisplayConfig.SwordDisplayPosition.HIP) {
-            renderSwordOnHip(poseStack, player, isLeft);
-        } else {
-            renderSwordOnBack(poseStack, player, isLeft);
+        ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+        BakedModel model = modelCache.get(sword);
+        if (model == null) {
+            model = itemRenderer.getModel(sword, player.level(), player, player.getId());
+            modelCache.put(sword, model);
         }
 
-        // Apply scale from config
-        float scale = (float) SwordDisplayConfig.scale;
-        poseStack.scale(scale, scale, scale);
+        poseStack.pushPose();
+
+        // Apply the prebaked position, rotation and scale from config
+        PoseStack.Pose last = poseStack.last();
+        last.pose().mul(pose.pose);
+        last.normal().mul(pose.normal);
 
         // Render the item
-        net.minecraft.client.Minecraft.getInstance().getItemRenderer().renderStatic(
+        itemRenderer.render(
             sword,
             ItemDisplayContext.THIRD_PERSON_RIGHT_HAND,
-            packedLight,
-            net.minecraft.client.renderer.texture.OverlayTexture.NO_OVERLAY,
+            false,
             poseStack,
             buffer,
-            player.level(),
-            player.getId()
+            packedLight,
+            OverlayTexture.NO_OVERLAY,
+            model
         );
 
         poseStack.popPose();
     }
 
     /**
-     * Positions and rotates the sword for hip placement
+     * Drops cached baked models (called on resource reload, when models are rebaked)
      */
-    private void renderSwordOnHip(PoseStack poseStack, Player player, boolean isLeft) {
-        if (isLeft) {
-            // Left hip - use config values
-            poseStack.translate(
-                SwordDisplayConfig.hipLeftTranslateX,
-                SwordDisplayConfig.hipLeftTranslateY,
-                SwordDisplayConfig.hipLeftTranslateZ
-            );
-            poseStack.mulPose(Axis.ZP.rotationDegrees((float) SwordDisplayConfig.hipLeftRotateZ));
-            poseStack.mulPose(Axis.YP.rotationDegrees((float) SwordDisplayConfig.hipLeftRotateY));
-            poseStack.mulPose(Axis.XP.rotationDegrees((float) SwordDisplayConfig.hipLeftRotateX));
-        } else {
-            // Right hip - use config values
-            poseStack.translate(
-                SwordDisplayConfig.hipRightTranslateX,
-                SwordDisplayConfig.hipRightTranslateY,
-                SwordDisplayConfig.hipRightTranslateZ
-            );
-            poseStack.mulPose(Axis.ZP.rotationDegrees((float) SwordDisplayConfig.hipRightRotateZ));
-            poseStack.mulPose(Axis.YP.rotationDegrees((float) SwordDisplayConfig.hipRightRotateY));
-            poseStack.mulPose(Axis.XP.rotationDegrees((float) SwordDisplayConfig.hipRightRotateX));
-        }
-    }
-
-    /**
-     * Positions and rotates the sword for back placement
-     */
-    private void renderSwordOnBack(PoseStack poseStack, Player player, boolean isLeft) {
-        if (isLeft) {
-            // Left side of back - use config values
-            poseStack.translate(
-                SwordDisplayConfig.backLeftTranslateX,
-                SwordDisplayConfig.backLeftTranslateY,
-                SwordDisplayConfig.backLeftTranslateZ
-            );
-            poseStack.mulPose(Axis.ZP.rotationDegrees((float) SwordDisplayConfig.backLeftRotateZ));
-            poseStack.mulPose(Axis.YP.rotationDegrees((float) SwordDisplayConfig.backLeftRotateY));
-            poseStack.mulPose(Axis.XP.rotationDegrees((float) SwordDisplayConfig.backLeftRotateX));
-        } else {
-            // Right side of back - use config values
-            poseStack.translate(
-                SwordDisplayConfig.backRightTranslateX,
-                SwordDisplayConfig.backRightTranslateY,
-                SwordDisplayConfig.backRightTranslateZ
-            );
-            poseStack.mulPose(Axis.ZP.rotationDegrees((float) SwordDisplayConfig.backRightRotateZ));
-            poseStack.mulPose(Axis.YP.rotationDegrees((float) SwordDisplayConfig.backRightRotateY));
-            poseStack.mulPose(Axis.XP.rotationDegrees((float) SwordDisplayConfig.backRightRotateX));
-        }
+    public static void clearModelCache() {
+        modelCache.clear();
     }
 }
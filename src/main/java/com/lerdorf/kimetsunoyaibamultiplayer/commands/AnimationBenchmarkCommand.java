@@ -0,0 +1,101 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.commands;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.ScaledTimeAnimation;
+import com.lerdorf.kimetsunoyaibamultiplayer.SpeedControlledAnimation;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.FloatArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import dev.kosmx.playerAnim.api.TransformType;
+import dev.kosmx.playerAnim.api.layered.KeyframeAnimationPlayer;
+import dev.kosmx.playerAnim.core.data.KeyframeAnimation;
+import dev.kosmx.playerAnim.core.util.Vec3f;
+import dev.kosmx.playerAnim.minecraftApi.PlayerAnimationRegistry;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Client-side benchmark comparing {@link SpeedControlledAnimation} against {@link ScaledTimeAnimation}.
+ * Usage: /animbench [animation] [speed] [entities] [ticks]
+ */
+public class AnimationBenchmarkCommand {
+    private static final String[] PARTS = {"body", "head", "rightArm", "leftArm", "rightLeg", "leftLeg"};
+    private static final int WARMUP_ROUNDS = 3;
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("animbench")
+            .executes(ctx -> run(ctx, "sword_to_left", 1.5f, 100, 200))
+            .then(Commands.argument("animation", StringArgumentType.string())
+                .executes(ctx -> run(ctx, StringArgumentType.getString(ctx, "animation"), 1.5f, 100, 200))
+                .then(Commands.argument("speed", FloatArgumentType.floatArg(0.1f, 10f))
+                    .executes(ctx -> run(ctx, StringArgumentType.getString(ctx, "animation"),
+                        FloatArgumentType.getFloat(ctx, "speed"), 100, 200))
+                    .then(Commands.argument("entities", IntegerArgumentType.integer(1, 10000))
+                        .executes(ctx -> run(ctx, StringArgumentType.getString(ctx, "animation"),
+                            FloatArgumentType.getFloat(ctx, "speed"), IntegerArgumentType.getInteger(ctx, "entities"), 200))
+                        .then(Commands.argument("ticks", IntegerArgumentType.integer(1, 100000))
+                            .executes(ctx -> run(ctx, StringArgumentType.getString(ctx, "animation"),
+                                FloatArgumentType.getFloat(ctx, "speed"), IntegerArgumentType.getInteger(ctx, "entities"),
+                                IntegerArgumentType.getInteger(ctx, "ticks"))))))));
+    }
+
+    private static int run(CommandContext<CommandSourceStack> context, String animationName, float speed, int entities, int ticks) {
+        ResourceLocation location = animationName.contains(":")
+            ? ResourceLocation.parse(animationName)
+            : ResourceLocation.fromNamespaceAndPath("kimetsunoyaiba", animationName);
+        KeyframeAnimation animation = PlayerAnimationRegistry.getAnimation(location);
+        if (animation == null) {
+            context.getSource().sendFailure(Component.literal("Animation not found: " + location));
+            return 0;
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runOnce(animation, speed, entities, ticks, false);
+            runOnce(animation, speed, entities, ticks, true);
+        }
+        Result random = runOnce(animation, speed, entities, ticks, false);
+        Result scaled = runOnce(animation, speed, entities, ticks, true);
+
+        CommandSourceStack source = context.getSource();
+        source.sendSystemMessage(Component.literal(String.format("§6[AnimBench] %s x%.2f, %d entities, %d ticks",
+            location, speed, entities, ticks)));
+        source.sendSystemMessage(Component.literal(String.format("§7SpeedControlledAnimation: §f%.1f µs/tick§7, tick spread %d",
+            random.nanosPerTick / 1000.0, random.tickSpread)));
+        source.sendSystemMessage(Component.literal(String.format("§7ScaledTimeAnimation:      §f%.1f µs/tick§7, tick spread %d",
+            scaled.nanosPerTick / 1000.0, scaled.tickSpread)));
+        return 1;
+    }
+
+    private static Result runOnce(KeyframeAnimation animation, float speed, int entities, int ticks, boolean scaled) {
+        KeyframeAnimationPlayer[] players = new KeyframeAnimationPlayer[entities];
+        for (int i = 0; i < entities; i++) {
+            players[i] = scaled ? new ScaledTimeAnimation(animation, speed) : new SpeedControlledAnimation(animation, speed);
+        }
+
+        long start = System.nanoTime();
+        for (int t = 0; t < ticks; t++) {
+            for (KeyframeAnimationPlayer player : players) {
+                player.tick();
+                // One sampled frame per tick, mirroring what the renderer does
+                player.setupAnim(0.5f);
+                for (String part : PARTS) {
+                    player.get3DTransform(part, TransformType.ROTATION, 0.5f, Vec3f.ZERO);
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int minTick = Integer.MAX_VALUE;
+        int maxTick = Integer.MIN_VALUE;
+        for (KeyframeAnimationPlayer player : players) {
+            minTick = Math.min(minTick, player.getTick());
+            maxTick = Math.max(maxTick, player.getTick());
+        }
+        return new Result((double) elapsed / ticks, maxTick - minTick);
+    }
+
+    private record Result(double nanosPerTick, int tickSpread) {}
+}
@@ -0,0 +1,46 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.commands;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.HookTimings;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import java.util.List;
+
+/**
+ * Per-hook tick timings for the mod
+ * Usage: /kny perf [reset] (server hooks), /knyc perf [reset] (client hooks)
+ */
+public class PerfCommand {
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(perf("kny", "Server", HookTimings.serverHooks())
+                .requires(source -> source.hasPermission(2)));
+    }
+
+    public static void registerClient(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(perf("knyc", "Client", HookTimings.clientHooks()));
+    }
+
+    private static LiteralArgumentBuilder<CommandSourceStack> perf(String root, String side, List<HookTimings.Hook> hooks) {
+        return Commands.literal(root)
+                .then(Commands.literal("perf")
+                        .executes(context -> report(context.getSource(), side, hooks))
+                        .then(Commands.literal("reset")
+                                .executes(context -> {
+                                    hooks.forEach(HookTimings.Hook::reset);
+                                    context.getSource().sendSuccess(() -> Component.literal("§a" + side + " hook timings reset"), false);
+                                    return 1;
+                                })));
+    }
+
+    private static int report(CommandSourceStack source, String side, List<HookTimings.Hook> hooks) {
+        source.sendSuccess(() -> Component.literal("§6" + side + " hook timings (last " + HookTimings.WINDOW + " ticks, mean per tick):"), false);
+        for (HookTimings.Hook hook : hooks) {
+            String line = hook.summary();
+            source.sendSuccess(() -> Component.literal("§7  " + line), false);
+        }
+        return 1;
+    }
+}
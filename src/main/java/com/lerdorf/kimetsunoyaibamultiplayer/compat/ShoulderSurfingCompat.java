@@ -4,58 +4,109 @@ import com.lerdorf.kimetsunoyaibamultiplayer.Log;
 
 import net.minecraftforge.fml.ModList;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Optional ShoulderSurfing camera integration
+ * The ShoulderSurfing API is looked up reflectively once (at client setup) and kept as MethodHandles,
+ * so per-tick camera updates are plain handle calls. Any failure turns the compat into a permanent no-op.
+ */
 public class ShoulderSurfingCompat {
-    /** Is ShoulderSurfing mod present? */
+    private static final String IMPL_CLASS = "com.github.exopandora.shouldersurfing.client.ShoulderSurfingImpl";
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, float.class);
+
+    private enum State { UNRESOLVED, READY, DISABLED }
+
+    private static volatile State state = State.UNRESOLVED;
+
+    // ShoulderSurfingImpl.getInstance(), ShoulderSurfingImpl#getCamera()
+    private static MethodHandle getInstance;
+    private static MethodHandle getCamera;
+    // Camera setters, resolved against the first camera seen
+    private static Class<?> cameraClass;
+    private static MethodHandle setYRot;
+    private static MethodHandle setXRot;
+
+    /** Is ShoulderSurfing mod present and usable? */
     public static boolean isPresent() {
-        return ModList.get().isLoaded("shouldersurfing");
+        if (state == State.UNRESOLVED) {
+            init();
+        }
+        return state == State.READY;
+    }
+
+    /**
+     * Check for ShoulderSurfing and resolve its API. Called once from client setup.
+     */
+    public static synchronized void init() {
+        if (state != State.UNRESOLVED) {
+            return;
+        }
+        if (!ModList.get().isLoaded("shouldersurfing")) {
+            if (com.lerdorf.kimetsunoyaibamultiplayer.Config.logDebug) {
+                Log.debug("ShoulderSurfing not present, camera compat disabled");
+            }
+            state = State.DISABLED;
+            return;
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> implClass = Class.forName(IMPL_CLASS);
+            getInstance = lookup.unreflect(implClass.getMethod("getInstance"))
+                .asType(MethodType.methodType(Object.class));
+            getCamera = lookup.unreflect(implClass.getMethod("getCamera")).asType(GETTER_TYPE);
+            state = State.READY;
+        } catch (Throwable ex) {
+            disable(ex);
+        }
     }
 
     /**
      * If ShoulderSurfing is present, set the shoulder camera rotation to match yaw/pitch.
-     * Uses reflection to avoid compile-time dependency on ShoulderSurfing.
      *
      * IMPORTANT: do not call this on the server. Only call from client-side code.
      */
     public static void setShoulderCameraRotation(float yaw, float pitch) {
         if (!isPresent()) {
-            if (com.lerdorf.kimetsunoyaibamultiplayer.Config.logDebug) {
-                Log.debug("ShoulderSurfing not present, skipping camera update");
-            }
             return;
         }
 
         try {
-            // Use reflection to access ShoulderSurfing API
-            // Class: com.github.exopandora.shouldersurfing.client.ShoulderSurfingImpl
-            Class<?> shoulderSurfingClass = Class.forName("com.github.exopandora.shouldersurfing.client.ShoulderSurfingImpl");
-            Object instance = shoulderSurfingClass.getMethod("getInstance").invoke(null);
-
+            Object instance = (Object) getInstance.invokeExact();
             if (instance == null) {
-                if (com.lerdorf.kimetsunoyaibamultiplayer.Config.logDebug) {
-                    Log.debug("ShoulderSurfing instance is null");
-                }
                 return;
             }
 
-            // Get camera object (returns ShoulderSurfingCamera)
-            Object camera = shoulderSurfingClass.getMethod("getCamera").invoke(instance);
-            if (camera != null) {
-                // Set camera rotation using separate setYRot and setXRot methods
-                Class<?> cameraClass = camera.getClass();
-                cameraClass.getMethod("setYRot", float.class).invoke(camera, yaw);
-                cameraClass.getMethod("setXRot", float.class).invoke(camera, pitch);
-
-                if (com.lerdorf.kimetsunoyaibamultiplayer.Config.logDebug) {
-                    Log.debug("ShoulderSurfing camera rotation updated: yaw={}, pitch={}", yaw, pitch);
-                }
-            } else {
-                if (com.lerdorf.kimetsunoyaibamultiplayer.Config.logDebug) {
-                    Log.debug("ShoulderSurfing camera is null");
-                }
+            Object camera = (Object) getCamera.invokeExact(instance);
+            if (camera == null) {
+                return;
+            }
+
+            if (camera.getClass() != cameraClass) {
+                resolveCameraSetters(camera.getClass());
             }
-        } catch (Exception ex) {
-            // ShoulderSurfing API changed or not available - fail gracefully
-            Log.warn("ShoulderSurfing present, but compat call failed: {}", ex.toString());
+            setYRot.invokeExact(camera, yaw);
+            setXRot.invokeExact(camera, pitch);
+        } catch (Throwable ex) {
+            // ShoulderSurfing API changed - stop trying
+            disable(ex);
         }
     }
-}
\ No newline at end of file
+
+    private static synchronized void resolveCameraSetters(Class<?> type) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        setYRot = lookup.unreflect(type.getMethod("setYRot", float.class)).asType(SETTER_TYPE);
+        setXRot = lookup.unreflect(type.getMethod("setXRot", float.class)).asType(SETTER_TYPE);
+        cameraClass = type;
+    }
+
+    private static void disable(Throwable ex) {
+        state = State.DISABLED;
+        Log.warn("ShoulderSurfing present, but compat call failed, disabling camera compat: {}", ex.toString());
+    }
+}
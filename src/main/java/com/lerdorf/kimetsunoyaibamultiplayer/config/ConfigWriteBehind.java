@@ -0,0 +1,85 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.config;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+import net.minecraftforge.event.GameShuttingDownEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debounced background writer for config changes made during gameplay
+ * Callers apply their change to the cached values right away and schedule a flush here;
+ * flushes requested within the debounce window are coalesced into one file write on a
+ * background thread. Anything still pending is written when the server or game shuts down.
+ */
+@Mod.EventBusSubscriber(modid = KimetsunoyaibaMultiplayer.MODID)
+public class ConfigWriteBehind {
+    private static final long DEBOUNCE_MILLIS = 2000;
+
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "KnY Config Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static Runnable pendingFlush;
+    private static ScheduledFuture<?> pendingFuture;
+
+    /**
+     * Schedule a flush after the debounce interval, replacing any flush not yet run
+     * @param flush Writes the pending changes to disk; called on the writer thread
+     */
+    public static synchronized void schedule(Runnable flush) {
+        pendingFlush = flush;
+        if (pendingFuture != null) {
+            pendingFuture.cancel(false);
+        }
+        pendingFuture = EXECUTOR.schedule(ConfigWriteBehind::runPending, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Write anything pending on the calling thread (used on shutdown)
+     */
+    public static void flushNow() {
+        synchronized (ConfigWriteBehind.class) {
+            if (pendingFuture != null) {
+                pendingFuture.cancel(false);
+                pendingFuture = null;
+            }
+        }
+        runPending();
+    }
+
+    private static void runPending() {
+        Runnable flush;
+        synchronized (ConfigWriteBehind.class) {
+            flush = pendingFlush;
+            pendingFlush = null;
+            pendingFuture = null;
+        }
+        if (flush == null) {
+            return;
+        }
+        try {
+            flush.run();
+        } catch (Exception e) {
+            Log.error("Failed to write config changes: {}", e.getMessage());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        flushNow();
+    }
+
+    @SubscribeEvent
+    public static void onGameShuttingDown(GameShuttingDownEvent event) {
+        flushNow();
+    }
+}
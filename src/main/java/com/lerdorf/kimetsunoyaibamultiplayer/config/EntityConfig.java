@@ -1,5 +1,7 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.config;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.event.config.ModConfigEvent;
@@ -7,6 +9,14 @@ import net.minecraftforge.fml.event.config.ModConfigEvent;
 public class EntityConfig {
     private static final ForgeConfigSpec.Builder BUILDER = new ForgeConfigSpec.Builder();
 
+    /**
+     * How kasugai crows get their GeckoLib visuals
+     */
+    public enum CrowRenderMode {
+        MIRROR_ENTITY,  // Server spawns an invisible-original + GeckolibCrowEntity mirror pair
+        RENDER_PROXY    // Client renders the original crow with the GeckoLib model, no extra entity
+    }
+
     static {
         BUILDER.comment("Entity Enhancement Configuration")
                 .push("entities");
@@ -22,6 +32,13 @@ public class EntityConfig {
             .comment("Enable all kasugai crow enhancements (master toggle)")
             .define("enhancements-enabled", true);
 
+    private static final ForgeConfigSpec.EnumValue<CrowRenderMode> CROW_RENDER_MODE = BUILDER
+            .comment("How crows are rendered with the GeckoLib model:",
+                     "MIRROR_ENTITY - spawn a synced mirror entity per crow (original behavior)",
+                     "RENDER_PROXY - render the original crow directly on the client; no mirror entities are spawned",
+                     "The server's value decides; it is sent to clients when they join")
+            .defineEnum("render-mode", CrowRenderMode.MIRROR_ENTITY);
+
     private static final ForgeConfigSpec.BooleanValue CROW_FLYING_DODGE_ENABLED = BUILDER
             .comment("Enable the flying dodge mechanic where tamed crows fly away from danger")
             .define("flying-dodge-enabled", true);
@@ -39,17 +56,13 @@ public class EntityConfig {
             .defineInRange("circle-radius", 15.0, 10.0, 50.0);
 
     private static final ForgeConfigSpec.BooleanValue CROW_QUEST_ARROW_ENABLED = BUILDER
-            .comment("Enable particle arrow pointing to quest locations when crow gives a quest")
+            .comment("Enable the arrow pointing to quest locations when crow gives a quest")
             .define("quest-arrow-enabled", true);
 
     private static final ForgeConfigSpec.BooleanValue CROW_WAYPOINT_ENABLED = BUILDER
             .comment("Enable waypoint marker at quest target locations")
             .define("waypoint-enabled", true);
 
-    private static final ForgeConfigSpec.IntValue CROW_ARROW_UPDATE_INTERVAL = BUILDER
-            .comment("How often to update the quest arrow particles in ticks (lower = smoother but more particles)")
-            .defineInRange("arrow-update-interval", 5, 1, 20);
-
     private static final ForgeConfigSpec.DoubleValue CROW_ARROW_LENGTH = BUILDER
             .comment("Length of the quest arrow in blocks")
             .defineInRange("arrow-length", 3.0, 1.0, 10.0);
@@ -68,6 +81,70 @@ public class EntityConfig {
 
     static {
         BUILDER.pop(); // kasugai_crow
+    }
+
+    // GeckoLib animation level-of-detail (client side)
+    static {
+        BUILDER.comment("Distance-based animation level of detail for GeckoLib slayers and crows (client side)")
+                .push("animation_lod");
+    }
+
+    private static final ForgeConfigSpec.BooleanValue LOD_ENABLED = BUILDER
+            .comment("Enable animation LOD (far entities update their bone poses less often)")
+            .define("enabled", true);
+
+    private static final ForgeConfigSpec.DoubleValue LOD_HALF_RATE_DISTANCE = BUILDER
+            .comment("Distance in blocks beyond which bone poses update every 2nd frame")
+            .defineInRange("half-rate-distance", 24.0, 4.0, 256.0);
+
+    private static final ForgeConfigSpec.DoubleValue LOD_QUARTER_RATE_DISTANCE = BUILDER
+            .comment("Distance in blocks beyond which bone poses update every 4th frame")
+            .defineInRange("quarter-rate-distance", 48.0, 4.0, 256.0);
+
+    private static final ForgeConfigSpec.DoubleValue LOD_FROZEN_DISTANCE = BUILDER
+            .comment("Distance in blocks beyond which entities hold a cached pose (refreshed every 32 frames)")
+            .defineInRange("frozen-distance", 96.0, 4.0, 512.0);
+
+    private static final ForgeConfigSpec.DoubleValue LOD_LAYER_CUTOFF_DISTANCE = BUILDER
+            .comment("Distance in blocks beyond which held items and armor layers are not rendered")
+            .defineInRange("layer-cutoff-distance", 64.0, 4.0, 512.0);
+
+    private static final ForgeConfigSpec.BooleanValue LOD_DEBUG_OVERLAY = BUILDER
+            .comment("Show per-tier entity counts on the F3 debug screen")
+            .define("debug-overlay", false);
+
+    static {
+        BUILDER.pop(); // animation_lod
+    }
+
+    // Breathing slayer AI throttling (server side)
+    static {
+        BUILDER.comment("AI throttling for breathing slayer NPCs based on distance to the nearest player")
+                .push("slayer_ai");
+    }
+
+    private static final ForgeConfigSpec.BooleanValue SLAYER_AI_THROTTLE_ENABLED = BUILDER
+            .comment("Enable AI throttling for slayers with no player nearby")
+            .define("throttle-enabled", true);
+
+    private static final ForgeConfigSpec.DoubleValue SLAYER_AI_ACTIVE_DISTANCE = BUILDER
+            .comment("Slayers with a player within this many blocks run their AI every tick")
+            .defineInRange("active-distance", 32.0, 8.0, 256.0);
+
+    private static final ForgeConfigSpec.DoubleValue SLAYER_AI_FROZEN_DISTANCE = BUILDER
+            .comment("Idle slayers with no player within this many blocks stop wandering entirely")
+            .defineInRange("frozen-distance", 96.0, 16.0, 512.0);
+
+    private static final ForgeConfigSpec.IntValue SLAYER_AI_REDUCED_INTERVAL = BUILDER
+            .comment("Between active and frozen distance, idle slayers evaluate goals once every this many ticks (rounded up to even)")
+            .defineInRange("reduced-interval", 4, 2, 20);
+
+    private static final ForgeConfigSpec.IntValue SLAYER_AI_FROZEN_INTERVAL = BUILDER
+            .comment("Frozen slayers still look for targets once every this many ticks (rounded up to even)")
+            .defineInRange("frozen-interval", 40, 10, 200);
+
+    static {
+        BUILDER.pop(); // slayer_ai
         BUILDER.pop(); // entities
     }
 
@@ -75,35 +152,94 @@ public class EntityConfig {
 
     // Cached values
     public static boolean crowEnhancementsEnabled;
+    public static CrowRenderMode crowRenderMode = CrowRenderMode.MIRROR_ENTITY;
+    // Client side: the render mode of the server we are connected to (see CrowRenderModePacket)
+    public static CrowRenderMode serverCrowRenderMode = CrowRenderMode.MIRROR_ENTITY;
     public static boolean crowFlyingDodgeEnabled;
     public static double crowFlightHeight;
     public static int crowFlightDuration;
     public static double crowCircleRadius;
     public static boolean crowQuestArrowEnabled;
     public static boolean crowWaypointEnabled;
-    public static int crowArrowUpdateInterval;
     public static double crowArrowLength;
     public static int crowWaypointDuration;
     public static double crowWaypointCompleteDistance;
     public static boolean crowAutoDetectQuests;
+    public static boolean lodEnabled;
+    public static double lodHalfRateDistanceSqr;
+    public static double lodQuarterRateDistanceSqr;
+    public static double lodFrozenDistanceSqr;
+    public static double lodLayerCutoffDistanceSqr;
+    public static boolean lodDebugOverlay;
+    public static boolean slayerAiThrottleEnabled;
+    public static double slayerAiActiveDistanceSqr;
+    public static double slayerAiFrozenDistanceSqr;
+    public static int slayerAiReducedInterval;
+    public static int slayerAiFrozenInterval;
+
+    /**
+     * Server side: true when this server skips mirror entities and leaves crows to the render proxy
+     */
+    public static boolean useCrowRenderProxy() {
+        return crowRenderMode == CrowRenderMode.RENDER_PROXY;
+    }
+
+    /**
+     * Client side: true when the connected server runs render proxy mode
+     */
+    public static boolean serverUsesCrowRenderProxy() {
+        return serverCrowRenderMode == CrowRenderMode.RENDER_PROXY;
+    }
+
+    /**
+     * Send this server's crow render mode to all connected clients after a config reload
+     */
+    private static void broadcastCrowRenderMode() {
+        net.minecraft.server.MinecraftServer server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
+        if (server != null) {
+            CrowRenderMode mode = crowRenderMode;
+            server.execute(() -> com.lerdorf.kimetsunoyaibamultiplayer.network.ModNetworking.sendToAllClients(
+                new com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CrowRenderModePacket(mode)));
+        }
+    }
+
+    private static double square(double distance) {
+        return distance * distance;
+    }
 
     @SubscribeEvent
     public static void onLoad(final ModConfigEvent event) {
-        System.out.println("ENTITY CONFIG LOADING...");
         crowEnhancementsEnabled = CROW_ENHANCEMENTS_ENABLED.get();
+        CrowRenderMode previousRenderMode = crowRenderMode;
+        crowRenderMode = CROW_RENDER_MODE.get();
+        if (crowRenderMode != previousRenderMode) {
+            broadcastCrowRenderMode();
+        }
         crowFlyingDodgeEnabled = CROW_FLYING_DODGE_ENABLED.get();
         crowFlightHeight = CROW_FLIGHT_HEIGHT.get();
         crowFlightDuration = CROW_FLIGHT_DURATION.get();
         crowCircleRadius = CROW_CIRCLE_RADIUS.get();
         crowQuestArrowEnabled = CROW_QUEST_ARROW_ENABLED.get();
         crowWaypointEnabled = CROW_WAYPOINT_ENABLED.get();
-        crowArrowUpdateInterval = CROW_ARROW_UPDATE_INTERVAL.get();
         crowArrowLength = CROW_ARROW_LENGTH.get();
         crowWaypointDuration = CROW_WAYPOINT_DURATION.get();
         crowWaypointCompleteDistance = CROW_WAYPOINT_COMPLETE_DISTANCE.get();
         crowAutoDetectQuests = CROW_AUTO_DETECT_QUESTS.get();
-
-        System.out.println("EntityConfig loaded: crowEnhancements=" + crowEnhancementsEnabled +
+        lodEnabled = LOD_ENABLED.get();
+        lodHalfRateDistanceSqr = square(LOD_HALF_RATE_DISTANCE.get());
+        lodQuarterRateDistanceSqr = square(LOD_QUARTER_RATE_DISTANCE.get());
+        lodFrozenDistanceSqr = square(LOD_FROZEN_DISTANCE.get());
+        lodLayerCutoffDistanceSqr = square(LOD_LAYER_CUTOFF_DISTANCE.get());
+        lodDebugOverlay = LOD_DEBUG_OVERLAY.get();
+        slayerAiThrottleEnabled = SLAYER_AI_THROTTLE_ENABLED.get();
+        slayerAiActiveDistanceSqr = square(SLAYER_AI_ACTIVE_DISTANCE.get());
+        slayerAiFrozenDistanceSqr = square(SLAYER_AI_FROZEN_DISTANCE.get());
+        // Rounded up to even: vanilla only runs full goal selection on even (server tick + id) ticks
+        slayerAiReducedInterval = (SLAYER_AI_REDUCED_INTERVAL.get() + 1) & ~1;
+        slayerAiFrozenInterval = (SLAYER_AI_FROZEN_INTERVAL.get() + 1) & ~1;
+
+        Log.debug(() -> "EntityConfig loaded: crowEnhancements=" + crowEnhancementsEnabled +
+                         ", renderMode=" + crowRenderMode +
                          ", flyingDodge=" + crowFlyingDodgeEnabled + ", flightHeight=" + crowFlightHeight +
                          ", flightDuration=" + crowFlightDuration + ", circleRadius=" + crowCircleRadius +
                          ", questArrow=" + crowQuestArrowEnabled + ", waypoint=" + crowWaypointEnabled +
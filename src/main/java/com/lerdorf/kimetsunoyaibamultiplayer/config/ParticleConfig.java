@@ -2,6 +2,9 @@ package com.lerdorf.kimetsunoyaibamultiplayer.config;
 
 import java.util.List;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+import com.lerdorf.kimetsunoyaibamultiplayer.particles.SwordParticleMapping;
+
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.event.config.ModConfigEvent;
@@ -191,7 +194,6 @@ public class ParticleConfig {
 
     @SubscribeEvent
     public static void onLoad(final ModConfigEvent event) {
-        System.out.println("PARTICLE CONFIG LOADING...");
         swordParticlesEnabled = SWORD_PARTICLES_ENABLED.get();
         swordParticlesForOtherEntities = SWORD_PARTICLES_FOR_OTHER_ENTITIES.get();
         particleTriggerMode = PARTICLE_TRIGGER_MODE.get();
@@ -211,20 +213,21 @@ public class ParticleConfig {
         List<? extends String> mappingStrings = PARTICLE_MAPPINGS.get();
         for (String mapping : mappingStrings) {
             try {
-                System.out.println("Parsing mapping: " + mapping);
                 ParticleMapping parsed = parseParticleMapping(mapping);
                 if (parsed != null) {
                     particleMappings.put(parsed.itemId, parsed);
-                    System.out.println("Successfully added mapping: " + parsed.itemId + " -> " + parsed.particleType);
                 } else {
-                    System.err.println("Failed to parse mapping (returned null): " + mapping);
+                    Log.error("Failed to parse particle mapping: {}", mapping);
                 }
             } catch (Exception e) {
-                System.err.println("Failed to parse particle mapping: " + mapping + " - " + e.getMessage());
+                Log.error("Failed to parse particle mapping: {} - {}", mapping, e.getMessage());
             }
         }
 
-        System.out.println("ParticleConfig loaded: particles=" + swordParticlesEnabled +
+        // Resolved sword particles depend on the mappings above
+        SwordParticleMapping.invalidateCache();
+
+        Log.debug(() -> "ParticleConfig loaded: particles=" + swordParticlesEnabled +
                          ", layers=" + radialLayers + ", stepsPerTick=" + particleStepsPerTick +
                          ", maxPerTick=" + maxParticlesPerTick + ", mappings=" + particleMappings.size());
     }
@@ -232,7 +235,7 @@ public class ParticleConfig {
     private static ParticleMapping parseParticleMapping(String mapping) {
         String[] parts = mapping.split(":");
         if (parts.length < 4) {
-            System.err.println("Invalid particle mapping format (need at least 4 parts): " + mapping);
+            Log.error("Invalid particle mapping format (need at least 4 parts): {}", mapping);
             return null;
         }
 
@@ -248,7 +251,7 @@ public class ParticleConfig {
                 float blue = Float.parseFloat(parts[7]);
                 return new ParticleMapping(itemId, particleType, size, red, green, blue);
             } catch (NumberFormatException e) {
-                System.err.println("Invalid dust particle parameters in mapping: " + mapping);
+                Log.error("Invalid dust particle parameters in mapping: {}", mapping);
                 return new ParticleMapping(itemId, particleType);
             }
         } else {
@@ -257,9 +260,13 @@ public class ParticleConfig {
         }
     }
 
+    // Auto-added mapping strings not yet written to the config file
+    private static final java.util.Set<String> pendingMappings = new java.util.LinkedHashSet<>();
+
     /**
      * Adds a new particle mapping to the config file at runtime.
      * This is called when a sword doesn't have a particle mapping yet.
+     * The cached map is updated immediately; the file write is debounced onto a background thread.
      *
      * @param itemId The full item ID (e.g., "kimetsunoyaibamultiplayer:nichirinsword_komorebi")
      * @param particleType The particle type (e.g., "minecraft:snowflake")
@@ -269,38 +276,57 @@ public class ParticleConfig {
      * @param blue Blue component (0.0-1.0, only for dust particles)
      */
     public static void addParticleMappingToConfig(String itemId, String particleType, float size, float red, float green, float blue) {
-        try {
-            // Get current mappings list
-            List<? extends String> currentMappings = PARTICLE_MAPPINGS.get();
-            java.util.List<String> newMappings = new java.util.ArrayList<>(currentMappings);
-
-            // Create the new mapping string
-            String newMapping;
-            if (particleType.equals("minecraft:dust")) {
-                newMapping = String.format("%s:%s:%.1f:%.1f:%.1f:%.1f", itemId, particleType, size, red, green, blue);
-            } else {
-                newMapping = String.format("%s:%s", itemId, particleType);
-            }
+        // Create the new mapping string
+        String newMapping;
+        if (particleType.equals("minecraft:dust")) {
+            newMapping = String.format(java.util.Locale.ROOT, "%s:%s:%.1f:%.1f:%.1f:%.1f", itemId, particleType, size, red, green, blue);
+        } else {
+            newMapping = String.format("%s:%s", itemId, particleType);
+        }
 
-            // Add to list if not already present
-            if (!newMappings.contains(newMapping)) {
-                newMappings.add(newMapping);
-                System.out.println("Auto-added particle mapping to config: " + newMapping);
+        // Add to cached map immediately
+        ParticleMapping parsed = parseParticleMapping(newMapping);
+        if (parsed != null && particleMappings != null) {
+            particleMappings.put(parsed.itemId, parsed);
+        }
 
-                // Update the config value
-                PARTICLE_MAPPINGS.set(newMappings);
+        synchronized (pendingMappings) {
+            if (!pendingMappings.add(newMapping)) {
+                return;
+            }
+        }
+        ConfigWriteBehind.schedule(ParticleConfig::flushPendingMappings);
+    }
 
-                // Also add to cached map immediately
-                ParticleMapping parsed = parseParticleMapping(newMapping);
-                if (parsed != null) {
-                    particleMappings.put(parsed.itemId, parsed);
-                }
+    /**
+     * Writes queued auto-added mappings to the config file (runs on the config writer thread)
+     */
+    private static void flushPendingMappings() {
+        java.util.List<String> added;
+        synchronized (pendingMappings) {
+            if (pendingMappings.isEmpty()) {
+                return;
+            }
+            added = new java.util.ArrayList<>(pendingMappings);
+            pendingMappings.clear();
+        }
 
-                // Save the config file
+        try {
+            java.util.List<String> newMappings = new java.util.ArrayList<>(PARTICLE_MAPPINGS.get());
+            boolean changed = false;
+            for (String mapping : added) {
+                if (!newMappings.contains(mapping)) {
+                    newMappings.add(mapping);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                PARTICLE_MAPPINGS.set(newMappings);
                 SPEC.save();
+                Log.info("Auto-added particle mappings to config: {}", added);
             }
         } catch (Exception e) {
-            System.err.println("Failed to auto-add particle mapping for " + itemId + ": " + e.getMessage());
+            Log.error("Failed to save auto-added particle mappings {}: {}", added, e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.config;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.event.config.ModConfigEvent;
@@ -169,7 +171,6 @@ public class SwordDisplayConfig {
 
     @SubscribeEvent
     public static void onLoad(final ModConfigEvent event) {
-        System.out.println("SWORD DISPLAY CONFIG LOADING...");
         enabled = ENABLED.get();
         position = POSITION.get();
         scale = SCALE.get();
@@ -202,7 +203,10 @@ public class SwordDisplayConfig {
         backRightRotateY = BACK_RIGHT_ROTATE_Y.get();
         backRightRotateX = BACK_RIGHT_ROTATE_X.get();
 
-        System.out.println("Sword display config loaded: enabled=" + enabled +
+        // Bake the render transforms once per load instead of per frame
+        SwordDisplayPoses.rebuild();
+
+        Log.debug(() -> "Sword display config loaded: enabled=" + enabled +
                          ", position=" + position + ", scale=" + scale);
     }
 }
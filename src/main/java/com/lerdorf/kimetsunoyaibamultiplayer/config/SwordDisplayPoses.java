@@ -0,0 +1,64 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.config;
+
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+
+/**
+ * Precomputed hip/back transforms for displayed swords.
+ * Rebuilt from SwordDisplayConfig whenever it loads or reloads, so the render layer
+ * only multiplies a ready matrix instead of reading config values and building quaternions.
+ */
+public class SwordDisplayPoses {
+
+    /**
+     * One baked placement: translation, Z/Y/X rotation and scale, plus the matching normal matrix
+     */
+    public static final class Pose {
+        public final Matrix4f pose;
+        public final Matrix3f normal;
+
+        private Pose(double tx, double ty, double tz, double rotZ, double rotY, double rotX, float scale) {
+            this.pose = new Matrix4f()
+                .translation((float) tx, (float) ty, (float) tz)
+                .rotateZ((float) Math.toRadians(rotZ))
+                .rotateY((float) Math.toRadians(rotY))
+                .rotateX((float) Math.toRadians(rotX))
+                .scale(scale);
+            // Uniform positive scale leaves normals untouched (same as PoseStack.scale)
+            this.normal = new Matrix3f()
+                .rotationZ((float) Math.toRadians(rotZ))
+                .rotateY((float) Math.toRadians(rotY))
+                .rotateX((float) Math.toRadians(rotX));
+        }
+    }
+
+    private static volatile Pose hipLeft;
+    private static volatile Pose hipRight;
+    private static volatile Pose backLeft;
+    private static volatile Pose backRight;
+
+    /**
+     * Recompute all four placements from the current config values
+     */
+    public static void rebuild() {
+        float scale = (float) SwordDisplayConfig.scale;
+        hipLeft = new Pose(SwordDisplayConfig.hipLeftTranslateX, SwordDisplayConfig.hipLeftTranslateY, SwordDisplayConfig.hipLeftTranslateZ,
+            SwordDisplayConfig.hipLeftRotateZ, SwordDisplayConfig.hipLeftRotateY, SwordDisplayConfig.hipLeftRotateX, scale);
+        hipRight = new Pose(SwordDisplayConfig.hipRightTranslateX, SwordDisplayConfig.hipRightTranslateY, SwordDisplayConfig.hipRightTranslateZ,
+            SwordDisplayConfig.hipRightRotateZ, SwordDisplayConfig.hipRightRotateY, SwordDisplayConfig.hipRightRotateX, scale);
+        backLeft = new Pose(SwordDisplayConfig.backLeftTranslateX, SwordDisplayConfig.backLeftTranslateY, SwordDisplayConfig.backLeftTranslateZ,
+            SwordDisplayConfig.backLeftRotateZ, SwordDisplayConfig.backLeftRotateY, SwordDisplayConfig.backLeftRotateX, scale);
+        backRight = new Pose(SwordDisplayConfig.backRightTranslateX, SwordDisplayConfig.backRightTranslateY, SwordDisplayConfig.backRightTranslateZ,
+            SwordDisplayConfig.backRightRotateZ, SwordDisplayConfig.backRightRotateY, SwordDisplayConfig.backRightRotateX, scale);
+    }
+
+    /**
+     * @return The placement for the configured display position and side, or null before the config has loaded
+     */
+    public static Pose get(boolean isLeft) {
+        if (SwordDisplayConfig.position == SwordDisplayConfig.SwordDisplayPosition.HIP) {
+            return isLeft ? hipLeft : hipRight;
+        }
+        return isLeft ? backLeft : backRight;
+    }
+}
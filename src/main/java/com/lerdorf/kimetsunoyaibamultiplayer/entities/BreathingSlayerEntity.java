@@ -1,14 +1,14 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.entities;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.Config;
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
 import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.BreathingTechnique;
-import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.PlayerBreathingData;
-import net.minecraft.core.registries.Registries;
+import com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig;
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.ModJfr;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.syncher.EntityDataAccessor;
 import net.minecraft.network.syncher.EntityDataSerializers;
 import net.minecraft.network.syncher.SynchedEntityData;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.tags.TagKey;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
@@ -47,11 +47,15 @@ public abstract class BreathingSlayerEntity extends PathfinderMob implements Geo
     private static final EntityDataAccessor<Integer> CURRENT_FORM_INDEX =
         SynchedEntityData.defineId(BreathingSlayerEntity.class, EntityDataSerializers.INT);
 
-    // Synced data for current animation state
-    private static final EntityDataAccessor<String> CURRENT_ANIMATION =
-        SynchedEntityData.defineId(BreathingSlayerEntity.class, EntityDataSerializers.STRING);
+    // Synced data for current animation state (SlayerAnimations id, sent as a varint)
+    private static final EntityDataAccessor<Integer> CURRENT_ANIMATION =
+        SynchedEntityData.defineId(BreathingSlayerEntity.class, EntityDataSerializers.INT);
 
-    private static final EntityDataAccessor<Integer> ANIMATION_TICKS =
+    // Game time the current attack/ability animation started, and how long it plays.
+    // Both are written once per animation start; clients derive the remaining time locally.
+    private static final EntityDataAccessor<Long> ANIMATION_START_TICK =
+        SynchedEntityData.defineId(BreathingSlayerEntity.class, EntityDataSerializers.LONG);
+    private static final EntityDataAccessor<Integer> ANIMATION_DURATION =
         SynchedEntityData.defineId(BreathingSlayerEntity.class, EntityDataSerializers.INT);
 
     // Synced data for power level (1-4)
@@ -61,11 +65,13 @@ public abstract class BreathingSlayerEntity extends PathfinderMob implements Geo
     // Cooldown tracking for breathing forms (in ticks)
     private int breathingFormCooldown = 0;
 
-    // Entity tags for targeting demons
-    private static final TagKey<EntityType<?>> DEMON_TAG = TagKey.create(Registries.ENTITY_TYPE,
-        ResourceLocation.tryBuild("kimetsunoyaiba", "demon"));
-    private static final TagKey<EntityType<?>> TWELVE_KIZUKI_TAG = TagKey.create(Registries.ENTITY_TYPE,
-        ResourceLocation.tryBuild("kimetsunoyaiba", "twelve_kizuki"));
+    // Server AI throttle state (see shouldSkipAi)
+    private enum AiBand { UNKNOWN, ACTIVE, REDUCED, FROZEN }
+    private AiBand aiBand = AiBand.UNKNOWN;
+    private boolean skipAiThisTick = false;
+
+    // Client only: start tick of the animation the GeckoLib controller last picked up
+    private long lastAnimationStartTick = Long.MIN_VALUE;
 
     // UUID for attribute modifiers (must be unique per attribute)
     private static final UUID SPEED_MODIFIER_UUID = UUID.fromString("7f3e5c6d-1a2b-4f9e-8d7c-6b5a4e3d2c1b");
@@ -106,8 +112,9 @@ public abstract class BreathingSlayerEntity extends PathfinderMob implements Geo
     protected void defineSynchedData() {
         super.defineSynchedData();
         this.entityData.define(CURRENT_FORM_INDEX, 0);
-        this.entityData.define(CURRENT_ANIMATION, "idle");
-        this.entityData.define(ANIMATION_TICKS, 0);
+        this.entityData.define(CURRENT_ANIMATION, SlayerAnimations.IDLE);
+        this.entityData.define(ANIMATION_START_TICK, 0L);
+        this.entityData.define(ANIMATION_DURATION, 0);
         this.entityData.define(POWER_LEVEL, 1); // Default to power level 1
     }
 
@@ -147,8 +154,18 @@ public abstract class BreathingSlayerEntity extends PathfinderMob implements Geo
         // Priority 2: Animated melee attack (plays attack animations)
         this.goalSelector.addGoal(2, new com.lerdorf.kimetsunoyaibamultiplayer.entities.ai.AnimatedMeleeAttackGoal(this, 1.0D, false));
 
-        // Priority 3: Random stroll
-        this.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(this, 0.8D));
+        // Priority 3: Random stroll (not while frozen by the AI throttle, or the slayer crawls on its allowed ticks)
+        this.goalSelector.addGoal(3, new WaterAvoidingRandomStrollGoal(this, 0.8D) {
+            @Override
+            public boolean canUse() {
+                return !isAiFrozen() && super.canUse();
+            }
+
+            @Override
+            public boolean canContinueToUse() {
+                return !isAiFrozen() && super.canContinueToUse();
+            }
+        });
 
         // Priority 4: Look at player
         this.goalSelector.addGoal(4, new LookAtPlayerGoal(this, Player.class, 8.0F));
@@ -159,19 +176,21 @@ public abstract class BreathingSlayerEntity extends PathfinderMob implements Geo
         // Target goals
         this.targetSelector.addGoal(1, new HurtByTargetGoal(this));
 
-        // Target demons from kimetsunoyaiba mod (using entity tags)
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, LivingEntity.class, 10, true, false,
-            (entity) -> {
-                // Target entities with demon or twelve_kizuki tags
-                return entity.getType().is(DEMON_TAG) || entity.getType().is(TWELVE_KIZUKI_TAG);
-            }));
+        // Target demons from kimetsunoyaiba mod (demon/twelve_kizuki tags, looked up in the shared DemonIndex)
+        this.targetSelector.addGoal(2, new com.lerdorf.kimetsunoyaibamultiplayer.entities.ai.DemonTargetGoal(this, 10, true));
 
         // Target players who are demons (check NBT data)
         this.targetSelector.addGoal(3, new NearestAttackableTargetGoal<>(this, Player.class, 10, true, false,
             (player) -> {
                 // Check if player has "oni" (demon) NBT tag
                 return player.getPersistentData().getBoolean("oni");
-            }));
+            }) {
+            @Override
+            protected void findTarget() {
+                ModJfr.countTargetQuery();
+                super.findTarget();
+            }
+        });
     }
 
     /**
@@ -188,6 +207,10 @@ public abstract class BreathingSlayerEntity extends PathfinderMob implements Geo
 
     @Override
     public void aiStep() {
+        if (!this.level().isClientSide) {
+            this.skipAiThisTick = shouldSkipAi();
+        }
+
         super.aiStep();
 
         // Tick down breathing form cooldown
@@ -196,6 +219,68 @@ public abstract class BreathingSlayerEntity extends PathfinderMob implements Geo
         }
     }
 
+    @Override
+    protected boolean isImmobile() {
+        // LivingEntity.aiStep skips serverAiStep (goals, targeting, navigation) for immobile entities
+        return super.isImmobile() || this.skipAiThisTick;
+    }
+
+    /**
+     * Distance-based AI throttle. Engaged slayers (target, recent hurt, or mid-animation) always run
+     * full AI; idle ones evaluate goals less often the further the nearest player is, staggered by
+     * entity id so a crowd never evaluates on the same tick. Reduced slayers run every tick while
+     * walking a path so the walk stays smooth; frozen slayers drop their path and do not wander.
+     * The phase uses the same clock as Mob.serverAiStep (server tick count + id), which only runs
+     * full goal/target selection when that sum is even; the intervals are even (see EntityConfig),
+     * so every tick let through here is a full selection tick.
+     */
+    private boolean shouldSkipAi() {
+        if (!EntityConfig.slayerAiThrottleEnabled) {
+            return false;
+        }
+
+        // Nearest-player distance only needs refreshing about once a second
+        int phase = this.level().getServer().getTickCount() + this.getId();
+        if (phase % 20 == 0 || this.aiBand == AiBand.UNKNOWN) {
+            this.aiBand = computeAiBand();
+        }
+
+        if (this.aiBand == AiBand.ACTIVE || isEngaged()) {
+            return false;
+        }
+        if (this.aiBand == AiBand.REDUCED) {
+            return !this.getNavigation().isInProgress() && phase % EntityConfig.slayerAiReducedInterval != 0;
+        }
+        if (this.getNavigation().isInProgress()) {
+            this.getNavigation().stop();
+        }
+        return phase % EntityConfig.slayerAiFrozenInterval != 0;
+    }
+
+    /**
+     * True while the throttle has this slayer in the frozen band and nothing engages it
+     */
+    private boolean isAiFrozen() {
+        return EntityConfig.slayerAiThrottleEnabled && this.aiBand == AiBand.FROZEN && !isEngaged();
+    }
+
+    private AiBand computeAiBand() {
+        Player nearest = this.level().getNearestPlayer(this, -1.0);
+        if (nearest == null) {
+            return AiBand.FROZEN;
+        }
+        double distanceSqr = this.distanceToSqr(nearest);
+        if (distanceSqr <= EntityConfig.slayerAiActiveDistanceSqr) return AiBand.ACTIVE;
+        if (distanceSqr <= EntityConfig.slayerAiFrozenDistanceSqr) return AiBand.REDUCED;
+        return AiBand.FROZEN;
+    }
+
+    private boolean isEngaged() {
+        return this.getTarget() != null
+            || this.tickCount - this.getLastHurtByMobTimestamp() < 100
+            || this.getAnimationTicks() > 0;
+    }
+
     public boolean isBreathingFormOnCooldown() {
         return this.breathingFormCooldown > 0;
     }
@@ -342,49 +427,47 @@ public abstract class BreathingSlayerEntity extends PathfinderMob implements Geo
      * @param durationTicks How long to play the animation (in ticks)
      */
     public void playGeckoAnimation(String animationName, int durationTicks) {
-        // Sync to client via entity data
-        this.entityData.set(CURRENT_ANIMATION, animationName);
-        this.entityData.set(ANIMATION_TICKS, durationTicks);
-
-        // Debug logging
-        if (!this.level().isClientSide) {
-            System.out.println("[BreathingSlayerEntity] Playing animation: " + animationName + " for " + durationTicks + " ticks");
+        int animationId = SlayerAnimations.getId(animationName);
+        if (animationId == SlayerAnimations.NONE) {
+            if (Config.logDebug)
+                Log.warn("Slayer animation '{}' is not in biped.animation.json, ignoring", animationName);
+            return;
         }
-    }
 
-    @Override
-    public void tick() {
-        super.tick();
+        // Sync to client via entity data (one update per animation start)
+        this.entityData.set(CURRENT_ANIMATION, animationId);
+        this.entityData.set(ANIMATION_START_TICK, this.level().getGameTime());
+        this.entityData.set(ANIMATION_DURATION, durationTicks);
 
-        // Get synced animation data
-        int animTicks = this.entityData.get(ANIMATION_TICKS);
-
-        // Tick down animation timer
-        if (animTicks > 0) {
-            animTicks--;
-            this.entityData.set(ANIMATION_TICKS, animTicks);
+        if (Log.debugEnabled && !this.level().isClientSide) {
+            Log.debug("Slayer playing animation: {} for {} ticks", animationName, durationTicks);
+        }
+    }
 
-            if (animTicks == 0) {
-                // Animation finished, return to idle/walk
-                String newAnim = this.getDeltaMovement().horizontalDistanceSqr() > 0.0001 ? "walk" : "idle";
-                this.entityData.set(CURRENT_ANIMATION, newAnim);
-            }
-        } else {
-            // No special animation playing, update based on movement
-            String newAnim = this.getDeltaMovement().horizontalDistanceSqr() > 0.0001 ? "walk" : "idle";
-            String currentAnim = this.entityData.get(CURRENT_ANIMATION);
-            if (!currentAnim.equals(newAnim)) {
-                this.entityData.set(CURRENT_ANIMATION, newAnim);
-            }
+    /**
+     * @return The playing attack/ability animation id, or WALK/IDLE from current movement when none is playing
+     */
+    public int getCurrentAnimationId() {
+        if (getAnimationTicks() > 0) {
+            return this.entityData.get(CURRENT_ANIMATION);
         }
+        return this.getDeltaMovement().horizontalDistanceSqr() > 0.0001 ? SlayerAnimations.WALK : SlayerAnimations.IDLE;
     }
 
+    /**
+     * @return Name of the current animation (see getCurrentAnimationId)
+     */
     public String getCurrentAnimation() {
-        return this.entityData.get(CURRENT_ANIMATION);
+        return SlayerAnimations.getName(getCurrentAnimationId());
     }
 
+    /**
+     * @return Ticks left on the current attack/ability animation, derived from the synced start tick
+     */
     public int getAnimationTicks() {
-        return this.entityData.get(ANIMATION_TICKS);
+        long end = this.entityData.get(ANIMATION_START_TICK) + this.entityData.get(ANIMATION_DURATION);
+        long remaining = end - this.level().getGameTime();
+        return remaining > 0 ? (int) remaining : 0;
     }
 
     // GeckoLib animation methods
@@ -392,19 +475,25 @@ public abstract class BreathingSlayerEntity extends PathfinderMob implements Geo
     public void registerControllers(AnimatableManager.ControllerRegistrar controllers) {
         // Main controller - handles ALL animations (walk, idle, attacks, abilities)
         controllers.add(new AnimationController<>(this, "controller", 2, state -> {
-            String anim = getCurrentAnimation();
-            int animTicks = getAnimationTicks();
+            int animId = getCurrentAnimationId();
+            RawAnimation attack = SlayerAnimations.playOnce(animId);
 
             // Attack and ability animations (play once)
-            if (animTicks > 0 && !anim.equals("idle") && !anim.equals("walk")) {
-                return state.setAndContinue(RawAnimation.begin().thenPlay(anim));
+            if (attack != null && animId != SlayerAnimations.IDLE && animId != SlayerAnimations.WALK) {
+                // Restart when a new animation starts, even if it is the same one still playing
+                long startTick = this.entityData.get(ANIMATION_START_TICK);
+                if (startTick != lastAnimationStartTick) {
+                    lastAnimationStartTick = startTick;
+                    state.getController().forceAnimationReset();
+                }
+                return state.setAndContinue(attack);
             }
 
             // Movement animations (loop)
             if (state.isMoving()) {
-                return state.setAndContinue(RawAnimation.begin().thenLoop("walk"));
+                return state.setAndContinue(SlayerAnimations.WALK_LOOP);
             } else {
-                return state.setAndContinue(RawAnimation.begin().thenLoop("idle"));
+                return state.setAndContinue(SlayerAnimations.IDLE_LOOP);
             }
         }));
     }
@@ -5,6 +5,7 @@ import com.lerdorf.kimetsunoyaibamultiplayer.Log;
 import com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig;
 import com.mojang.logging.LogUtils;
 import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -15,12 +16,15 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.TamableAnimal;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.entity.EntityTeleportEvent;
 import net.minecraftforge.event.entity.living.LivingHurtEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -32,7 +36,14 @@ public class CrowEnhancementHandler {
     private static final Map<UUID, CrowFlyingState> flyingCrows = new HashMap<>();
 
     public static class CrowFlyingState {
+        // How long a crow may stay unloaded before its flying state is dropped (1 minute)
+        public static final int UNLOADED_TTL_TICKS = 1200;
+
         public final UUID crowId;
+        // Direct handle to the crow; re-attached through EntityJoinLevelEvent after reloads
+        private WeakReference<Entity> crowRef;
+        public ResourceKey<Level> levelKey;
+        public int ticksUnloaded;
         public Vec3 circleCenter;
         public float circleAngle;
         public int flyingTimer;
@@ -43,8 +54,9 @@ public class CrowEnhancementHandler {
         public boolean isLanding; // Crow is descending with slow falling
         public int landingGracePeriod; // Ticks of invulnerability after landing
 
-        public CrowFlyingState(UUID crowId, Vec3 startPos) {
-            this.crowId = crowId;
+        public CrowFlyingState(Entity crow, Vec3 startPos) {
+            this.crowId = crow.getUUID();
+            attach(crow);
             this.circleCenter = startPos.add(0, EntityConfig.crowFlightHeight, 0);
             this.circleAngle = (float) (Math.random() * Math.PI * 2); // Random starting angle
             this.flyingTimer = EntityConfig.crowFlightDuration;
@@ -56,6 +68,20 @@ public class CrowEnhancementHandler {
             this.landingGracePeriod = 0;
         }
 
+        public void attach(Entity crow) {
+            this.crowRef = new WeakReference<>(crow);
+            this.levelKey = crow.level().dimension();
+            this.ticksUnloaded = 0;
+        }
+
+        /**
+         * @return The attached crow, or null if it was collected or removed from its level
+         */
+        public Entity getAttachedCrow() {
+            Entity crow = crowRef.get();
+            return crow != null && !crow.isRemoved() ? crow : null;
+        }
+
         public boolean isFlying() {
             return flyingTimer > 0;
         }
@@ -178,7 +204,7 @@ public class CrowEnhancementHandler {
         }
 
         // Create flying state
-        CrowFlyingState state = new CrowFlyingState(crow.getUUID(), crow.position());
+        CrowFlyingState state = new CrowFlyingState(crow, crow.position());
         flyingCrows.put(crow.getUUID(), state);
 
         if (Config.logDebug) {
@@ -241,18 +267,24 @@ public class CrowEnhancementHandler {
             UUID crowId = entry.getKey();
             CrowFlyingState state = entry.getValue();
 
-            // Try to find crow in ANY level (it might have switched dimensions)
-            Entity entity = null;
-            for (ServerLevel serverLevel : level.getServer().getAllLevels()) {
-                entity = serverLevel.getEntity(crowId);
+            Entity entity = state.getAttachedCrow();
+            if (entity == null) {
+                // Reference missed - try a single UUID lookup in the crow's last known level
+                ServerLevel lastLevel = level.getServer().getLevel(state.levelKey);
+                entity = lastLevel != null ? lastLevel.getEntity(crowId) : null;
                 if (entity != null) {
-                    break;
+                    state.attach(entity);
                 }
             }
 
             if (entity == null) {
-            	if (Config.logDebug)
-                Log.warn("Crow entity {} not found in any level - might be unloaded. Keeping in map for now.", crowId);
+                // Unloaded (or moved to another dimension); it is re-attached when it joins a level again
+                state.ticksUnloaded++;
+                if (state.ticksUnloaded > CrowFlyingState.UNLOADED_TTL_TICKS) {
+                	if (Config.logDebug)
+                    Log.info("Dropping flying state for crow {} - unloaded for {} ticks", crowId, state.ticksUnloaded);
+                    return true;
+                }
                 return false; // Keep for now, might reload
             }
 
@@ -440,9 +472,7 @@ public class CrowEnhancementHandler {
     }
 
     private static boolean isKasugaiCrow(Entity entity) {
-        // Check entity type
-        String entityType = entity.getType().toString();
-        return entityType.contains("kasugai_crow");
+        return KasugaiCrowIndex.isKasugaiCrow(entity);
     }
 
     public static void clearFlyingCrows() {
@@ -458,13 +488,9 @@ public class CrowEnhancementHandler {
 
     private static void triggerLandingAnimation(UUID crowId) {
         // Find the mirror crow and trigger landing animation
-        for (com.lerdorf.kimetsunoyaibamultiplayer.entities.GeckolibCrowEntity mirror :
-             com.lerdorf.kimetsunoyaibamultiplayer.entities.CrowMirrorHandler.getAllMirrors()) {
-            if (mirror.getOriginalCrowUUID() != null &&
-                mirror.getOriginalCrowUUID().equals(crowId)) {
-                mirror.triggerLanding();
-                break;
-            }
+        GeckolibCrowEntity mirror = CrowMirrorHandler.getMirror(crowId);
+        if (mirror != null) {
+            mirror.triggerLanding();
         }
     }
 
@@ -472,12 +498,8 @@ public class CrowEnhancementHandler {
      * Check for crows that are stuck levitating when they shouldn't be
      */
     private static void checkForLevitatingCrows(ServerLevel level) {
-        for (Entity entity : level.getAllEntities()) {
-            // Check if this is a kasugai_crow
-            if (!isKasugaiCrow(entity)) {
-                continue;
-            }
-
+        // Only visit indexed crows instead of every entity in the level
+        for (Entity entity : KasugaiCrowIndex.getCrows(level)) {
             CrowFlyingState state = flyingCrows.get(entity.getUUID());
 
             // Check if crow is stuck in landing phase for too long (more than 10 seconds)
@@ -522,6 +544,20 @@ public class CrowEnhancementHandler {
         }
     }
 
+    /**
+     * Re-attach flying state when a tracked crow reloads or changes dimension
+     */
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide() || flyingCrows.isEmpty()) {
+            return;
+        }
+        CrowFlyingState state = flyingCrows.get(event.getEntity().getUUID());
+        if (state != null) {
+            state.attach(event.getEntity());
+        }
+    }
+
     @SubscribeEvent
     public static void onEntityTeleport(EntityTeleportEvent event) {
         if (!EntityConfig.crowEnhancementsEnabled || !EntityConfig.crowFlyingDodgeEnabled) {
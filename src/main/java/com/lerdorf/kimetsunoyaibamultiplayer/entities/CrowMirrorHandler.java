@@ -3,6 +3,7 @@ package com.lerdorf.kimetsunoyaibamultiplayer.entities;
 import com.lerdorf.kimetsunoyaibamultiplayer.Config;
 import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
 import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+import com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig;
 import com.mojang.logging.LogUtils;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.effect.MobEffectInstance;
@@ -28,6 +29,9 @@ public class CrowMirrorHandler {
     // Map from original crow UUID to mirror crow
     private static final Map<UUID, GeckolibCrowEntity> CROW_MIRRORS = new HashMap<>();
 
+    // Invisibility longer than this was applied by mirror mode (it uses Integer.MAX_VALUE)
+    private static final int MIRROR_INVISIBILITY_MIN_DURATION = Integer.MAX_VALUE / 2;
+
     @SubscribeEvent
     public static void onEntitySpawn(EntityJoinLevelEvent event) {
         Entity entity = event.getEntity();
@@ -42,6 +46,11 @@ public class CrowMirrorHandler {
             return;
         }
 
+        // Render proxy mode draws the original crow on the client, no mirror needed
+        if (EntityConfig.useCrowRenderProxy()) {
+            return;
+        }
+
         // Check if we already have a mirror for this crow
         if (CROW_MIRRORS.containsKey(entity.getUUID())) {
             // Check if the mirror still exists
@@ -116,8 +125,7 @@ public class CrowMirrorHandler {
      * Check if an entity is a kasugai_crow from the kimetsunoyaiba mod
      */
     private static boolean isKasugaiCrow(Entity entity) {
-        String entityType = entity.getType().toString();
-        return entityType.contains("kasugai_crow");
+        return KasugaiCrowIndex.isKasugaiCrow(entity);
     }
 
     /**
@@ -139,12 +147,13 @@ public class CrowMirrorHandler {
      * Should be called periodically (e.g., every second)
      */
     public static void scanForUnmirroredCrows(ServerLevel level) {
-        for (Entity entity : level.getAllEntities()) {
-            // Check if this is a kasugai_crow
-            if (!isKasugaiCrow(entity)) {
-                continue;
-            }
+        if (EntityConfig.useCrowRenderProxy()) {
+            restoreProxiedCrows(level);
+            return;
+        }
 
+        // Only visit indexed crows instead of every entity in the level
+        for (Entity entity : KasugaiCrowIndex.getCrows(level)) {
             // Check if we already have a mirror
             if (CROW_MIRRORS.containsKey(entity.getUUID())) {
                 // Verify mirror still exists
@@ -168,6 +177,22 @@ public class CrowMirrorHandler {
         }
     }
 
+    /**
+     * Undo mirror mode after switching to render proxy mode: drop mirrors and make originals visible again
+     */
+    private static void restoreProxiedCrows(ServerLevel level) {
+        clearAllMirrors();
+        for (Entity entity : KasugaiCrowIndex.getCrows(level)) {
+            if (entity instanceof LivingEntity livingCrow) {
+                MobEffectInstance invisibility = livingCrow.getEffect(MobEffects.INVISIBILITY);
+                // Only strip the permanent effect mirror mode applied
+                if (invisibility != null && invisibility.getDuration() > MIRROR_INVISIBILITY_MIN_DURATION) {
+                    livingCrow.removeEffect(MobEffects.INVISIBILITY);
+                }
+            }
+        }
+    }
+
     /**
      * Ensure a crow has the invisibility effect
      * Re-applies it if missing (e.g., if cleared by commands)
@@ -222,7 +247,7 @@ public class CrowMirrorHandler {
         mirrorCrow.setXRot(originalCrow.getXRot());
 
         // Link to original crow
-        mirrorCrow.setOriginalCrow(originalCrow.getUUID());
+        mirrorCrow.setOriginalCrow(originalCrow);
 
         // Add to world
         serverLevel.addFreshEntity(mirrorCrow);
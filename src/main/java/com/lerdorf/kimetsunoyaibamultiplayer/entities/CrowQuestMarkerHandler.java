@@ -17,8 +17,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Handles quest markers for kasugai crows - draws particle arrows pointing to quest locations
- * and spawns waypoint markers at the target locations.
+ * Handles quest markers for kasugai crows - tracks the quest target each player is guided to.
+ * The arrow and waypoint themselves are drawn by CrowQuestWaypointRenderer.
  *
  * NOTE: This is the SHARED (server-safe) part. Client-only methods are in CrowQuestMarkerHandlerClient.
  */
@@ -147,83 +147,6 @@ public class CrowQuestMarkerHandler {
         // Implementation moved to client wrapper to avoid Minecraft.getInstance()
     }
 
-    /**
-     * Draws a particle arrow from the player pointing towards the quest location
-     */
-    static void drawQuestArrow(Player player, Vec3 target, Level level) {
-        Vec3 playerPos = player.position().add(0, player.getEyeHeight(), 0);
-        Vec3 direction = target.subtract(playerPos).normalize();
-
-        // Draw arrow particles in front of the player
-        double arrowLength = EntityConfig.crowArrowLength;
-        int particleCount = (int) (arrowLength * 4); // 4 particles per block
-
-        for (int i = 0; i < particleCount; i++) {
-            double progress = (double) i / particleCount;
-            Vec3 particlePos = playerPos.add(direction.scale(0.5 + progress * arrowLength));
-
-            // Main arrow shaft
-            level.addParticle(ParticleTypes.END_ROD,
-                    particlePos.x, particlePos.y, particlePos.z,
-                    0, 0, 0);
-
-            // Arrow head at the end
-            if (progress > 0.7 && progress < 0.9) {
-                // Create arrow head effect with angled particles
-                Vec3 perpendicular1 = new Vec3(-direction.z, 0, direction.x).normalize().scale(0.2);
-                Vec3 perpendicular2 = new Vec3(0, 1, 0).cross(direction).normalize().scale(0.2);
-
-                level.addParticle(ParticleTypes.END_ROD,
-                        particlePos.x + perpendicular1.x, particlePos.y + perpendicular1.y, particlePos.z + perpendicular1.z,
-                        0, 0, 0);
-                level.addParticle(ParticleTypes.END_ROD,
-                        particlePos.x - perpendicular1.x, particlePos.y - perpendicular1.y, particlePos.z - perpendicular1.z,
-                        0, 0, 0);
-                level.addParticle(ParticleTypes.END_ROD,
-                        particlePos.x + perpendicular2.x, particlePos.y + perpendicular2.y, particlePos.z + perpendicular2.z,
-                        0, 0, 0);
-                level.addParticle(ParticleTypes.END_ROD,
-                        particlePos.x - perpendicular2.x, particlePos.y - perpendicular2.y, particlePos.z - perpendicular2.z,
-                        0, 0, 0);
-            }
-        }
-    }
-
-    /**
-     * Draws a waypoint marker at the target location
-     */
-    static void drawWaypoint(Vec3 target, Level level) {
-        // Draw a vertical beam of particles
-        for (int i = 0; i < 20; i++) {
-            double y = target.y + i * 0.5;
-            level.addParticle(ParticleTypes.FLAME,
-                    target.x, y, target.z,
-                    0, 0.05, 0);
-
-            // Add some circling particles around the beam
-            double angle = (level.getGameTime() + i * 18) * 0.1;
-            double radius = 0.5;
-            double offsetX = Math.cos(angle) * radius;
-            double offsetZ = Math.sin(angle) * radius;
-
-            level.addParticle(ParticleTypes.END_ROD,
-                    target.x + offsetX, y, target.z + offsetZ,
-                    0, 0, 0);
-        }
-
-        // Add a glowing sphere at the base
-        for (int i = 0; i < 8; i++) {
-            double angle = i * Math.PI / 4;
-            double radius = 0.8;
-            double offsetX = Math.cos(angle) * radius;
-            double offsetZ = Math.sin(angle) * radius;
-
-            level.addParticle(ParticleTypes.GLOW,
-                    target.x + offsetX, target.y + 0.5, target.z + offsetZ,
-                    0, 0, 0);
-        }
-    }
-
     /**
      * Play waypoint sound (called from client wrapper)
      */
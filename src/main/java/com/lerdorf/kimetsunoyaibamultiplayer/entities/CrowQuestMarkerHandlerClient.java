@@ -76,7 +76,7 @@ public class CrowQuestMarkerHandlerClient {
     }
 
     /**
-     * Client-only: Tick quest markers (spawn particles, etc.)
+     * Client-only: Tick quest markers (expiry, completion, ambient sound)
      */
     public static void clientTick() {
         if (!EntityConfig.crowEnhancementsEnabled) {
@@ -114,15 +114,8 @@ public class CrowQuestMarkerHandlerClient {
 
         marker.tickCounter++;
 
-        // Draw quest arrow pointing to target
-        if (EntityConfig.crowQuestArrowEnabled && marker.tickCounter % EntityConfig.crowArrowUpdateInterval == 0) {
-            CrowQuestMarkerHandler.drawQuestArrow(player, marker.targetLocation, mc.level);
-        }
-
-        // Draw waypoint at target location
+        // Waypoint beam and quest arrow are drawn every frame by CrowQuestWaypointRenderer
         if (EntityConfig.crowWaypointEnabled) {
-            CrowQuestMarkerHandler.drawWaypoint(marker.targetLocation, mc.level);
-
             // Play subtle ambient sound at waypoint (every 3 seconds)
             if (mc.level.getGameTime() % 60 == 0) {
                 mc.level.playSound(mc.player,
@@ -0,0 +1,202 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.entities;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.math.Axis;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.RenderLevelStageEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.joml.Matrix4f;
+
+/**
+ * Draws the local player's quest waypoint (beam + ring) and quest arrow from prebuilt vertex buffers.
+ * Geometry is uploaded once; animation (spin, pulse, arrow orientation) is applied through the
+ * model-view matrix and shader color, so each marker is a single draw call per frame.
+ */
+@OnlyIn(Dist.CLIENT)
+@Mod.EventBusSubscriber(modid = KimetsunoyaibaMultiplayer.MODID, value = Dist.CLIENT)
+public class CrowQuestWaypointRenderer {
+    private static final float BEAM_HEIGHT = 10.0f;
+    private static final float BEAM_HALF_WIDTH = 0.15f;
+    private static final float RING_Y = 0.5f;
+    private static final float RING_INNER_RADIUS = 0.7f;
+    private static final float RING_OUTER_RADIUS = 0.9f;
+    private static final int RING_SEGMENTS = 24;
+
+    // Built lazily on the render thread
+    private static VertexBuffer waypointBuffer = null;
+    private static VertexBuffer arrowBuffer = null;
+
+    @SubscribeEvent
+    public static void onRenderLevelStage(RenderLevelStageEvent event) {
+        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
+            return;
+        }
+        if (!EntityConfig.crowEnhancementsEnabled) {
+            return;
+        }
+
+        Minecraft mc = Minecraft.getInstance();
+        Player player = mc.player;
+        if (player == null || mc.level == null) {
+            return;
+        }
+
+        CrowQuestMarkerHandler.QuestMarker marker = CrowQuestMarkerHandler.getQuestMarker(player.getUUID());
+        if (marker == null || marker.completed) {
+            return;
+        }
+
+        if (!EntityConfig.crowWaypointEnabled && !EntityConfig.crowQuestArrowEnabled) {
+            return;
+        }
+
+        ensureBuffers();
+
+        PoseStack poseStack = event.getPoseStack();
+        Matrix4f projection = event.getProjectionMatrix();
+        Vec3 camera = event.getCamera().getPosition();
+        float partialTick = event.getPartialTick();
+        float time = (mc.level.getGameTime() % 24000L) + partialTick;
+
+        RenderSystem.enableBlend();
+        RenderSystem.defaultBlendFunc();
+        RenderSystem.disableCull();
+        RenderSystem.depthMask(false);
+        RenderSystem.setShader(GameRenderer::getPositionColorShader);
+
+        if (EntityConfig.crowWaypointEnabled) {
+            Vec3 target = marker.targetLocation;
+            poseStack.pushPose();
+            poseStack.translate(target.x - camera.x, target.y - camera.y, target.z - camera.z);
+            poseStack.mulPose(Axis.YP.rotation(time * 0.1f));
+
+            // Pulse the whole marker through the color modulator uniform
+            float pulse = 0.75f + 0.25f * Mth.sin(time * 0.15f);
+            RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, pulse);
+            draw(waypointBuffer, poseStack, projection);
+            poseStack.popPose();
+        }
+
+        if (EntityConfig.crowQuestArrowEnabled) {
+            Vec3 eye = player.getEyePosition(partialTick);
+            Vec3 direction = marker.targetLocation.subtract(eye).normalize();
+            Vec3 start = eye.add(direction.scale(0.5));
+
+            poseStack.pushPose();
+            poseStack.translate(start.x - camera.x, start.y - camera.y, start.z - camera.z);
+            poseStack.mulPose(Axis.YP.rotation((float) Mth.atan2(direction.x, direction.z)));
+            poseStack.mulPose(Axis.XP.rotation((float) -Math.asin(Mth.clamp(direction.y, -1.0, 1.0))));
+            poseStack.scale(1.0f, 1.0f, (float) EntityConfig.crowArrowLength);
+
+            RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
+            draw(arrowBuffer, poseStack, projection);
+            poseStack.popPose();
+        }
+
+        RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
+        RenderSystem.depthMask(true);
+        RenderSystem.enableCull();
+        RenderSystem.disableBlend();
+    }
+
+    private static void draw(VertexBuffer buffer, PoseStack poseStack, Matrix4f projection) {
+        buffer.bind();
+        buffer.drawWithShader(poseStack.last().pose(), projection, RenderSystem.getShader());
+        VertexBuffer.unbind();
+    }
+
+    private static void ensureBuffers() {
+        if (waypointBuffer == null) {
+            waypointBuffer = upload(CrowQuestWaypointRenderer::buildWaypoint);
+        }
+        if (arrowBuffer == null) {
+            arrowBuffer = upload(CrowQuestWaypointRenderer::buildArrow);
+        }
+    }
+
+    private static VertexBuffer upload(java.util.function.Consumer<BufferBuilder> geometry) {
+        BufferBuilder builder = Tesselator.getInstance().getBuilder();
+        builder.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_COLOR);
+        geometry.accept(builder);
+        VertexBuffer buffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+        buffer.bind();
+        buffer.upload(builder.end());
+        VertexBuffer.unbind();
+        return buffer;
+    }
+
+    /**
+     * Beam (two crossed planes fading out upwards) plus a flat ring at the base, in marker-local space
+     */
+    private static void buildWaypoint(BufferBuilder b) {
+        // Beam, flame orange
+        float w = BEAM_HALF_WIDTH;
+        b.vertex(-w, 0, 0).color(1.0f, 0.55f, 0.1f, 0.8f).endVertex();
+        b.vertex(w, 0, 0).color(1.0f, 0.55f, 0.1f, 0.8f).endVertex();
+        b.vertex(w, BEAM_HEIGHT, 0).color(1.0f, 0.8f, 0.3f, 0.0f).endVertex();
+        b.vertex(-w, BEAM_HEIGHT, 0).color(1.0f, 0.8f, 0.3f, 0.0f).endVertex();
+
+        b.vertex(0, 0, -w).color(1.0f, 0.55f, 0.1f, 0.8f).endVertex();
+        b.vertex(0, 0, w).color(1.0f, 0.55f, 0.1f, 0.8f).endVertex();
+        b.vertex(0, BEAM_HEIGHT, w).color(1.0f, 0.8f, 0.3f, 0.0f).endVertex();
+        b.vertex(0, BEAM_HEIGHT, -w).color(1.0f, 0.8f, 0.3f, 0.0f).endVertex();
+
+        // Base ring, glow cyan
+        for (int i = 0; i < RING_SEGMENTS; i++) {
+            float a0 = (float) (i * Math.PI * 2 / RING_SEGMENTS);
+            float a1 = (float) ((i + 1) * Math.PI * 2 / RING_SEGMENTS);
+            float c0 = Mth.cos(a0), s0 = Mth.sin(a0);
+            float c1 = Mth.cos(a1), s1 = Mth.sin(a1);
+            b.vertex(c0 * RING_INNER_RADIUS, RING_Y, s0 * RING_INNER_RADIUS).color(0.4f, 1.0f, 0.9f, 0.7f).endVertex();
+            b.vertex(c0 * RING_OUTER_RADIUS, RING_Y, s0 * RING_OUTER_RADIUS).color(0.4f, 1.0f, 0.9f, 0.7f).endVertex();
+            b.vertex(c1 * RING_OUTER_RADIUS, RING_Y, s1 * RING_OUTER_RADIUS).color(0.4f, 1.0f, 0.9f, 0.7f).endVertex();
+            b.vertex(c1 * RING_INNER_RADIUS, RING_Y, s1 * RING_INNER_RADIUS).color(0.4f, 1.0f, 0.9f, 0.7f).endVertex();
+        }
+    }
+
+    /**
+     * Unit-length arrow along +Z (shaft plus head), stretched to the configured length when drawn
+     */
+    private static void buildArrow(BufferBuilder b) {
+        float shaft = 0.03f;
+        float head = 0.2f;
+        float headStart = 0.7f;
+
+        // Shaft, horizontal and vertical planes
+        b.vertex(-shaft, 0, 0).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(shaft, 0, 0).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(shaft, 0, headStart).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(-shaft, 0, headStart).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+
+        b.vertex(0, -shaft, 0).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(0, shaft, 0).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(0, shaft, headStart).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(0, -shaft, headStart).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+
+        // Head, two triangles (quads with a doubled tip vertex)
+        b.vertex(-head, 0, headStart).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(head, 0, headStart).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(0, 0, 1.0f).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(0, 0, 1.0f).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+
+        b.vertex(0, -head, headStart).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(0, head, headStart).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(0, 0, 1.0f).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+        b.vertex(0, 0, 1.0f).color(1.0f, 1.0f, 0.9f, 0.9f).endVertex();
+    }
+}
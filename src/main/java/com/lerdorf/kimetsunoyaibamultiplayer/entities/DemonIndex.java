@@ -0,0 +1,197 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.entities;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.ModJfr;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Live index of demon entities per server level, bucketed by chunk section
+ * Kept up to date from entity join/leave/section-change events, so slayers looking for a target
+ * only visit demons in nearby sections instead of testing every living entity in range.
+ */
+@Mod.EventBusSubscriber(modid = KimetsunoyaibaMultiplayer.MODID)
+public class DemonIndex {
+
+    // Entity tags for demons from the kimetsunoyaiba mod
+    private static final TagKey<EntityType<?>> DEMON_TAG = TagKey.create(Registries.ENTITY_TYPE,
+        ResourceLocation.tryBuild("kimetsunoyaiba", "demon"));
+    private static final TagKey<EntityType<?>> TWELVE_KIZUKI_TAG = TagKey.create(Registries.ENTITY_TYPE,
+        ResourceLocation.tryBuild("kimetsunoyaiba", "twelve_kizuki"));
+
+    private static final Map<ResourceKey<Level>, LevelIndex> INDEX_BY_LEVEL = new HashMap<>();
+
+    private static final class LevelIndex {
+        // Packed section pos -> demons in that section
+        final Long2ObjectOpenHashMap<List<LivingEntity>> sections = new Long2ObjectOpenHashMap<>();
+        // Demon -> packed section pos it is currently filed under
+        final Reference2LongOpenHashMap<LivingEntity> entitySections = new Reference2LongOpenHashMap<>();
+
+        void add(LivingEntity entity, long section) {
+            if (entitySections.containsKey(entity)) {
+                move(entity, section);
+                return;
+            }
+            entitySections.put(entity, section);
+            sections.computeIfAbsent(section, k -> new ArrayList<>()).add(entity);
+        }
+
+        void remove(LivingEntity entity) {
+            if (!entitySections.containsKey(entity)) {
+                return;
+            }
+            removeFromSection(entity, entitySections.removeLong(entity));
+        }
+
+        void move(LivingEntity entity, long newSection) {
+            long oldSection = entitySections.getLong(entity);
+            if (oldSection == newSection) {
+                return;
+            }
+            removeFromSection(entity, oldSection);
+            entitySections.put(entity, newSection);
+            sections.computeIfAbsent(newSection, k -> new ArrayList<>()).add(entity);
+        }
+
+        private void removeFromSection(LivingEntity entity, long section) {
+            List<LivingEntity> list = sections.get(section);
+            if (list != null) {
+                list.remove(entity);
+                if (list.isEmpty()) {
+                    sections.remove(section);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if an entity type is tagged as a demon or one of the twelve kizuki
+     */
+    public static boolean isDemon(Entity entity) {
+        EntityType<?> type = entity.getType();
+        return type.is(DEMON_TAG) || type.is(TWELVE_KIZUKI_TAG);
+    }
+
+    /**
+     * Find the nearest indexed demon to an entity that passes a filter
+     * Only sections overlapping the search range are visited; the filter (e.g. line of sight)
+     * is only run for candidates closer than the best match so far.
+     *
+     * @param searcher The entity searching (its level and position are used)
+     * @param range Search radius in blocks
+     * @param filter Extra check for a candidate, may be expensive
+     * @return The nearest matching demon, or null
+     */
+    public static LivingEntity findNearest(LivingEntity searcher, double range, Predicate<LivingEntity> filter) {
+        ModJfr.countTargetQuery();
+        LevelIndex index = INDEX_BY_LEVEL.get(searcher.level().dimension());
+        if (index == null || index.sections.isEmpty()) {
+            return null;
+        }
+
+        int minX = SectionPos.blockToSectionCoord(searcher.getX() - range);
+        int maxX = SectionPos.blockToSectionCoord(searcher.getX() + range);
+        int minY = SectionPos.blockToSectionCoord(searcher.getY() - range);
+        int maxY = SectionPos.blockToSectionCoord(searcher.getY() + range);
+        int minZ = SectionPos.blockToSectionCoord(searcher.getZ() - range);
+        int maxZ = SectionPos.blockToSectionCoord(searcher.getZ() + range);
+
+        LivingEntity best = null;
+        double bestDistanceSqr = range * range;
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sz = minZ; sz <= maxZ; sz++) {
+                for (int sy = minY; sy <= maxY; sy++) {
+                    List<LivingEntity> demons = index.sections.get(SectionPos.asLong(sx, sy, sz));
+                    if (demons == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < demons.size(); i++) {
+                        LivingEntity demon = demons.get(i);
+                        double distanceSqr = searcher.distanceToSqr(demon);
+                        if (distanceSqr <= bestDistanceSqr && filter.test(demon)) {
+                            best = demon;
+                            bestDistanceSqr = distanceSqr;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private static long sectionOf(Entity entity) {
+        return SectionPos.asLong(
+            SectionPos.blockToSectionCoord(entity.getBlockX()),
+            SectionPos.blockToSectionCoord(entity.getBlockY()),
+            SectionPos.blockToSectionCoord(entity.getBlockZ()));
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        Level level = event.getLevel();
+        if (level.isClientSide()) {
+            return;
+        }
+        if (event.getEntity() instanceof LivingEntity living && isDemon(living)) {
+            INDEX_BY_LEVEL.computeIfAbsent(level.dimension(), k -> new LevelIndex()).add(living, sectionOf(living));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        Level level = event.getLevel();
+        if (level.isClientSide()) {
+            return;
+        }
+        if (event.getEntity() instanceof LivingEntity living) {
+            LevelIndex index = INDEX_BY_LEVEL.get(level.dimension());
+            if (index != null) {
+                index.remove(living);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        if (!(event.getEntity() instanceof LivingEntity living) || living.level().isClientSide()) {
+            return;
+        }
+        LevelIndex index = INDEX_BY_LEVEL.get(living.level().dimension());
+        if (index != null && index.entitySections.containsKey(living)) {
+            index.move(living, event.getPackedNewPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level && !level.isClientSide()) {
+            INDEX_BY_LEVEL.remove(level.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(net.minecraftforge.event.server.ServerStoppedEvent event) {
+        INDEX_BY_LEVEL.clear();
+    }
+}
@@ -1,5 +1,6 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.entities;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
 import com.lerdorf.kimetsunoyaibamultiplayer.api.SwordRegistry;
 import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.BreathingTechnique;
 import com.lerdorf.kimetsunoyaibamultiplayer.items.BreathingSwordItem;
@@ -55,7 +56,7 @@ public class FrostSlayerEntity extends BreathingSlayerEntity {
 
         if (nichirinSwords.isEmpty()) {
             // Fallback: no swords registered, shouldn't happen
-            System.err.println("[FrostSlayerEntity] No nichirin swords found in registry!");
+            Log.error("Frost slayer found no nichirin swords in the registry");
             return;
         }
 
@@ -68,9 +69,8 @@ public class FrostSlayerEntity extends BreathingSlayerEntity {
         this.selectedTechnique = this.selectedSword.getBreathingTechnique();
         this.selectedSwordId = selected.getSwordId();
 
-        if (!this.level().isClientSide) {
-            System.out.println("[FrostSlayerEntity] Selected sword: " + this.selectedSwordId +
-                " with technique: " + this.selectedTechnique.getName());
+        if (Log.debugEnabled && !this.level().isClientSide) {
+            Log.debug("Frost slayer selected sword: {} with technique: {}", this.selectedSwordId, this.selectedTechnique.getName());
         }
     }
 
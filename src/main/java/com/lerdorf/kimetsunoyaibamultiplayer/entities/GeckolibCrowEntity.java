@@ -3,6 +3,7 @@ package com.lerdorf.kimetsunoyaibamultiplayer.entities;
 import com.lerdorf.kimetsunoyaibamultiplayer.Config;
 import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
 import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+import com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig;
 
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.syncher.EntityDataAccessor;
@@ -49,9 +50,16 @@ public class GeckolibCrowEntity extends PathfinderMob implements GeoEntity {
         SynchedEntityData.defineId(GeckolibCrowEntity.class, EntityDataSerializers.BOOLEAN);
     private static final EntityDataAccessor<java.util.Optional<UUID>> ORIGINAL_CROW_UUID =
         SynchedEntityData.defineId(GeckolibCrowEntity.class, EntityDataSerializers.OPTIONAL_UUID);
+    // Network id of the original crow, so both sides can resolve it with Level.getEntity(int)
+    private static final EntityDataAccessor<Integer> ORIGINAL_CROW_ID =
+        SynchedEntityData.defineId(GeckolibCrowEntity.class, EntityDataSerializers.INT);
+
+    // Bumped whenever a kasugai crow leaves a level; mirrors only re-resolve their original when it moves
+    private static volatile int crowRemovalEpoch = 0;
 
     // Reference to the original kasugai_crow entity this mirrors
     private Entity originalCrowCache;
+    private int originalCrowCacheEpoch = -1;
 
     // Hurt flash timer
     private int hurtFlashTimer = 0;
@@ -95,6 +103,7 @@ public class GeckolibCrowEntity extends PathfinderMob implements GeoEntity {
         this.entityData.define(IS_DEAD, false);
         this.entityData.define(IS_LANDING, false);
         this.entityData.define(ORIGINAL_CROW_UUID, java.util.Optional.empty());
+        this.entityData.define(ORIGINAL_CROW_ID, -1);
     }
 
     /**
@@ -102,9 +111,25 @@ public class GeckolibCrowEntity extends PathfinderMob implements GeoEntity {
      */
     public void setOriginalCrow(UUID crowUUID) {
         this.entityData.set(ORIGINAL_CROW_UUID, java.util.Optional.ofNullable(crowUUID));
+        this.entityData.set(ORIGINAL_CROW_ID, -1);
         this.originalCrowCache = null; // Clear cache
     }
 
+    /**
+     * Set the original crow this entity should mirror, linking both its UUID and network id
+     */
+    public void setOriginalCrow(Entity crow) {
+        setOriginalCrow(crow.getUUID());
+        this.entityData.set(ORIGINAL_CROW_ID, crow.getId());
+    }
+
+    /**
+     * Invalidate cached original crow references on every mirror (called when a crow leaves a level)
+     */
+    public static void onCrowRemoved() {
+        crowRemovalEpoch++;
+    }
+
     /**
      * Get the UUID of the original crow
      */
@@ -133,45 +158,39 @@ public class GeckolibCrowEntity extends PathfinderMob implements GeoEntity {
             return null;
         }
 
-        // Use cached reference if still valid
-        if (originalCrowCache != null && originalCrowCache.isAlive() &&
-            originalCrowCache.getUUID().equals(originalCrowUUID)) {
+        // Use cached reference until a crow removal invalidates it
+        int epoch = crowRemovalEpoch;
+        if (originalCrowCache != null && originalCrowCacheEpoch == epoch) {
             return originalCrowCache;
         }
+        originalCrowCache = null;
+        originalCrowCacheEpoch = epoch;
+
+        // Resolve by synced network id; works on both client and server side
+        Entity entity = null;
+        int originalCrowId = this.entityData.get(ORIGINAL_CROW_ID);
+        if (originalCrowId >= 0) {
+            Entity candidate = this.level().getEntity(originalCrowId);
+            if (candidate != null && originalCrowUUID.equals(candidate.getUUID())) {
+                entity = candidate;
+            }
+        }
 
-        // Search for the entity in the current level
-        // This works on both client and server side
-        if (this.level() != null) {
-            // Use server-side entity lookup if on server
-            if (!this.level().isClientSide()) {
-                // Server side - use ServerLevel's entity manager
-                if (this.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
-                    Entity entity = serverLevel.getEntity(originalCrowUUID);
-                    if (entity != null) {
-                        if (ticksAlive % 20 == 0 && Config.logDebug) {
-                            Log.info("Found original crow via ServerLevel.getEntity(): {}", entity.getName().getString());
-                        }
-                        originalCrowCache = entity;
-                        return entity;
-                    } else if (ticksAlive % 20 == 0 && Config.logDebug) {
-                        Log.warn("ServerLevel.getEntity() returned null for UUID: {}", originalCrowUUID);
-                    }
-                }
-            } else {
-                // Client side - search nearby entities
-                AABB searchBox = this.getBoundingBox().inflate(64.0); // 64 block radius
-                for (Entity entity : this.level().getEntities(this, searchBox)) {
-                    if (entity.getUUID().equals(originalCrowUUID)) {
-                        originalCrowCache = entity;
-                        return entity;
-                    }
+        // Server side fallback by UUID (e.g. after loading from disk, when the id is not known yet)
+        if (entity == null && this.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
+            entity = serverLevel.getEntity(originalCrowUUID);
+            if (entity != null) {
+                this.entityData.set(ORIGINAL_CROW_ID, entity.getId());
+                if (ticksAlive % 20 == 0 && Config.logDebug) {
+                    Log.info("Found original crow via ServerLevel.getEntity(): {}", entity.getName().getString());
                 }
+            } else if (ticksAlive % 20 == 0 && Config.logDebug) {
+                Log.warn("ServerLevel.getEntity() returned null for UUID: {}", originalCrowUUID);
             }
-        } else if (ticksAlive % 20 == 0 && Config.logDebug) {
-            Log.warn("Mirror crow level is null!");
         }
 
-        return null;
+        originalCrowCache = entity;
+        return entity;
     }
 
     @Override
@@ -179,6 +198,12 @@ public class GeckolibCrowEntity extends PathfinderMob implements GeoEntity {
         super.tick();
         ticksAlive++;
 
+        // Mirrors saved before switching to render proxy mode are no longer wanted
+        if (!this.level().isClientSide() && EntityConfig.useCrowRenderProxy()) {
+            this.discard();
+            return;
+        }
+
         Entity originalCrow = getOriginalCrow();
 
         // If original crow is gone, remove this entity
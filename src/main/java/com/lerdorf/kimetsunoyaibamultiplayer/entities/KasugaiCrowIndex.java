@@ -0,0 +1,114 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.entities;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.Config;
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Live index of loaded kasugai_crow entities per server level
+ * Fed by entity join/leave events so crow maintenance never has to walk every entity in the world
+ */
+@Mod.EventBusSubscriber(modid = KimetsunoyaibaMultiplayer.MODID)
+public class KasugaiCrowIndex {
+
+    // Crow entity types, resolved once from the registry (identity set)
+    private static Set<EntityType<?>> crowTypes = null;
+
+    // Level -> (crow UUID -> crow entity), server side only
+    private static final Map<ResourceKey<Level>, Map<UUID, Entity>> CROWS_BY_LEVEL = new HashMap<>();
+
+    /**
+     * Check if an entity is a kasugai_crow from the kimetsunoyaiba mod
+     */
+    public static boolean isKasugaiCrow(Entity entity) {
+        return getCrowTypes().contains(entity.getType());
+    }
+
+    /**
+     * Get the crows currently loaded in a level (live view, do not modify)
+     */
+    public static Collection<Entity> getCrows(Level level) {
+        Map<UUID, Entity> crows = CROWS_BY_LEVEL.get(level.dimension());
+        return crows != null ? crows.values() : Collections.emptyList();
+    }
+
+    private static Set<EntityType<?>> getCrowTypes() {
+        if (crowTypes == null) {
+            Set<EntityType<?>> types = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Map.Entry<ResourceKey<EntityType<?>>, EntityType<?>> entry : ForgeRegistries.ENTITY_TYPES.getEntries()) {
+                ResourceLocation id = entry.getKey().location();
+                if (id.getPath().contains("kasugai_crow")) {
+                    types.add(entry.getValue());
+                }
+            }
+            crowTypes = types;
+            if (Config.logDebug)
+            	Log.info("Resolved {} kasugai crow entity type(s)", types.size());
+        }
+        return crowTypes;
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        Level level = event.getLevel();
+        if (level.isClientSide()) {
+            return;
+        }
+        Entity entity = event.getEntity();
+        if (!isKasugaiCrow(entity)) {
+            return;
+        }
+        CROWS_BY_LEVEL.computeIfAbsent(level.dimension(), k -> new HashMap<>()).put(entity.getUUID(), entity);
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        Entity entity = event.getEntity();
+        if (!isKasugaiCrow(entity)) {
+            return;
+        }
+
+        // Mirrors on either side re-resolve their original crow only after a crow removal
+        GeckolibCrowEntity.onCrowRemoved();
+
+        Level level = event.getLevel();
+        if (level.isClientSide()) {
+            return;
+        }
+        Map<UUID, Entity> crows = CROWS_BY_LEVEL.get(level.dimension());
+        if (crows != null && crows.get(entity.getUUID()) == entity) {
+            crows.remove(entity.getUUID());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level && !level.isClientSide()) {
+            CROWS_BY_LEVEL.remove(level.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(net.minecraftforge.event.server.ServerStoppedEvent event) {
+        CROWS_BY_LEVEL.clear();
+    }
+}
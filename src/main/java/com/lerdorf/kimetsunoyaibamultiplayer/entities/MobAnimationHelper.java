@@ -1,5 +1,6 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.entities;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
 import dev.kosmx.playerAnim.api.layered.IAnimation;
 import dev.kosmx.playerAnim.api.layered.KeyframeAnimationPlayer;
 import dev.kosmx.playerAnim.api.layered.ModifierLayer;
@@ -33,7 +34,7 @@ public class MobAnimationHelper {
         // Get animation from registry
         KeyframeAnimation animation = findAnimation(animLocation);
         if (animation == null) {
-            System.err.println("[MobAnimationHelper] Animation not found: " + animLocation);
+            Log.warnLimited("Mob animation not found: {}", animLocation);
             return;
         }
 
@@ -55,7 +56,7 @@ public class MobAnimationHelper {
                 animationContainer.addAnimLayer(3000, modifierLayer);
             }
         } catch (Exception e) {
-            System.err.println("[MobAnimationHelper] Failed to play animation on mob: " + e.getMessage());
+            Log.warnLimited("Failed to play animation on mob: {}", e.getMessage());
         }
     }
 
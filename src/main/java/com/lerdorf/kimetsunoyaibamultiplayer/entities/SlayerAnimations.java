@@ -0,0 +1,92 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.entities;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+import software.bernie.geckolib.core.animation.RawAnimation;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Integer id table for the slayer animations in biped.animation.json
+ * Read from the mod jar on both sides (same file, same order), so entities can sync a small int
+ * instead of an animation name, and clients reuse one prebuilt RawAnimation per id.
+ */
+public class SlayerAnimations {
+    private static final String ANIMATION_FILE = "/assets/kimetsunoyaibamultiplayer/animations/biped.animation.json";
+
+    public static final int NONE = -1;
+
+    private static final List<String> NAMES = new ArrayList<>();
+    private static final Map<String, Integer> IDS = new HashMap<>();
+    private static final RawAnimation[] PLAY_ONCE;
+
+    public static final int IDLE;
+    public static final int WALK;
+
+    // Movement loops, shared by every slayer controller
+    public static final RawAnimation IDLE_LOOP = RawAnimation.begin().thenLoop("idle");
+    public static final RawAnimation WALK_LOOP = RawAnimation.begin().thenLoop("walk");
+
+    static {
+        loadNames();
+        PLAY_ONCE = new RawAnimation[NAMES.size()];
+        for (int i = 0; i < PLAY_ONCE.length; i++) {
+            PLAY_ONCE[i] = RawAnimation.begin().thenPlay(NAMES.get(i));
+        }
+        IDLE = getId("idle");
+        WALK = getId("walk");
+    }
+
+    private static void loadNames() {
+        try (InputStream stream = SlayerAnimations.class.getResourceAsStream(ANIMATION_FILE)) {
+            if (stream == null) {
+                Log.error("Slayer animation file {} not found, slayer animations will not sync", ANIMATION_FILE);
+                return;
+            }
+            try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                JsonObject animations = JsonParser.parseReader(reader).getAsJsonObject().getAsJsonObject("animations");
+                for (String name : animations.keySet()) {
+                    IDS.put(name, NAMES.size());
+                    NAMES.add(name);
+                }
+            }
+        } catch (Exception e) {
+            Log.error("Failed to read slayer animation ids from {}: {}", ANIMATION_FILE, e.getMessage());
+        }
+    }
+
+    /**
+     * @param name Animation name, optionally namespaced (the namespace is ignored)
+     * @return The animation id, or NONE if biped.animation.json has no such animation
+     */
+    public static int getId(String name) {
+        int colon = name.indexOf(':');
+        if (colon >= 0) {
+            name = name.substring(colon + 1);
+        }
+        Integer id = IDS.get(name);
+        return id != null ? id : NONE;
+    }
+
+    /**
+     * @return The animation name for an id, or null for an unknown id
+     */
+    public static String getName(int id) {
+        return id >= 0 && id < NAMES.size() ? NAMES.get(id) : null;
+    }
+
+    /**
+     * @return The preallocated play-once animation for an id, or null for an unknown id
+     */
+    public static RawAnimation playOnce(int id) {
+        return id >= 0 && id < PLAY_ONCE.length ? PLAY_ONCE[id] : null;
+    }
+}
@@ -61,7 +61,7 @@ public class BreathingFormAttackGoal extends Goal {
 
         if (form != null) {
             // Execute the breathing form
-            form.getEffect().execute(this.entity, this.entity.level());
+            form.cast(this.entity, this.entity.level());
 
             // Set cooldown
             int cooldownTicks = Math.max(form.getCooldownSeconds() * 20, minCooldownTicks);
@@ -0,0 +1,46 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.entities.ai;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.entities.DemonIndex;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.target.TargetGoal;
+import net.minecraft.world.entity.ai.targeting.TargetingConditions;
+
+import java.util.EnumSet;
+import java.util.function.Predicate;
+
+/**
+ * Target goal that picks the nearest demon from the shared DemonIndex
+ * Behaves like NearestAttackableTargetGoal, but only visits demons in nearby chunk sections
+ * instead of scanning and tag-testing every living entity in follow range.
+ */
+public class DemonTargetGoal extends TargetGoal {
+    private final int randomInterval;
+    private final TargetingConditions targetConditions = TargetingConditions.forCombat();
+    private final Predicate<LivingEntity> canTarget = demon -> this.canAttack(demon, this.targetConditions);
+    private LivingEntity target;
+
+    public DemonTargetGoal(Mob mob, int randomInterval, boolean mustSee) {
+        super(mob, mustSee, false);
+        this.randomInterval = reducedTickDelay(randomInterval);
+        this.setFlags(EnumSet.of(Flag.TARGET));
+    }
+
+    @Override
+    public boolean canUse() {
+        if (this.randomInterval > 0 && this.mob.getRandom().nextInt(this.randomInterval) != 0) {
+            return false;
+        }
+
+        double range = this.getFollowDistance();
+        this.targetConditions.range(range);
+        this.target = DemonIndex.findNearest(this.mob, range, this.canTarget);
+        return this.target != null;
+    }
+
+    @Override
+    public void start() {
+        this.mob.setTarget(this.target);
+        super.start();
+    }
+}
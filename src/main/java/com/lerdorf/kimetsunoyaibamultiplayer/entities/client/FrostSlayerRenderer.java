@@ -1,10 +1,10 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.entities.client;
 
 import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.client.model.LodGeoModel;
 import com.lerdorf.kimetsunoyaibamultiplayer.entities.FrostSlayerEntity;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.resources.ResourceLocation;
-import software.bernie.geckolib.model.GeoModel;
 import software.bernie.geckolib.renderer.GeoEntityRenderer;
 
 /**
@@ -12,7 +12,7 @@ import software.bernie.geckolib.renderer.GeoEntityRenderer;
  */
 public class FrostSlayerRenderer extends GeoEntityRenderer<FrostSlayerEntity> {
     public FrostSlayerRenderer(EntityRendererProvider.Context context) {
-        super(context, new GeoModel<FrostSlayerEntity>() {
+        super(context, new LodGeoModel<FrostSlayerEntity>() {
             @Override
             public ResourceLocation getModelResource(FrostSlayerEntity entity) {
                 return ResourceLocation.fromNamespaceAndPath(KimetsunoyaibaMultiplayer.MODID, "geo/biped.geo.json");
@@ -1,10 +1,16 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.entities.client;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.client.AnimationLod;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
 import net.minecraft.client.model.HumanoidModel;
 import net.minecraft.client.model.geom.ModelPart;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.core.animatable.GeoAnimatable;
 import software.bernie.geckolib.renderer.GeoRenderer;
@@ -24,6 +30,30 @@ public class GeoArmorLayer<T extends LivingEntity & GeoAnimatable> extends ItemA
         super(geoRenderer);
     }
 
+    // Set once per render pass: entity is beyond the animation LOD layer cutoff
+    private boolean skipForLod = false;
+
+    @Override
+    public void preRender(PoseStack poseStack, T animatable, BakedGeoModel bakedModel, RenderType renderType,
+                          MultiBufferSource bufferSource, VertexConsumer buffer, float partialTick,
+                          int packedLight, int packedOverlay) {
+        this.skipForLod = AnimationLod.shouldSkipLayers(animatable);
+        if (this.skipForLod) {
+            return;
+        }
+        super.preRender(poseStack, animatable, bakedModel, renderType, bufferSource, buffer, partialTick, packedLight, packedOverlay);
+    }
+
+    @Override
+    public void renderForBone(PoseStack poseStack, T animatable, GeoBone bone, RenderType renderType,
+                              MultiBufferSource bufferSource, VertexConsumer buffer, float partialTick,
+                              int packedLight, int packedOverlay) {
+        if (this.skipForLod) {
+            return;
+        }
+        super.renderForBone(poseStack, animatable, bone, renderType, bufferSource, buffer, partialTick, packedLight, packedOverlay);
+    }
+
     /**
      * Returns which armor piece should be rendered on this bone
      */
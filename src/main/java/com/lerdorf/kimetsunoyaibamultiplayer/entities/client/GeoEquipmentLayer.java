@@ -1,23 +1,34 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.entities.client;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.client.AnimationLod;
 import com.mojang.blaze3d.vertex.PoseStack;
-import com.mojang.math.Axis;
+import com.mojang.blaze3d.vertex.VertexConsumer;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ArmorItem;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.ShieldItem;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.core.animatable.GeoAnimatable;
 import software.bernie.geckolib.renderer.GeoRenderer;
 import software.bernie.geckolib.renderer.layer.BlockAndItemGeoLayer;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Custom GeckoLib item layer for rendering held items (swords, shields, etc.)
  * Works like GeoArmorLayer but for held items.
@@ -28,37 +39,53 @@ public class GeoEquipmentLayer<T extends LivingEntity & GeoAnimatable> extends B
         super(renderer);
     }
 
+    // Set once per render pass: entity is beyond the animation LOD layer cutoff
+    private boolean skipForLod = false;
+
+    @Override
+    public void preRender(PoseStack poseStack, T animatable, BakedGeoModel bakedModel, RenderType renderType,
+                          MultiBufferSource bufferSource, VertexConsumer buffer, float partialTick,
+                          int packedLight, int packedOverlay) {
+        this.skipForLod = AnimationLod.shouldSkipLayers(animatable);
+        if (this.skipForLod) {
+            return;
+        }
+        classifyBones(bakedModel);
+        super.preRender(poseStack, animatable, bakedModel, renderType, bufferSource, buffer, partialTick, packedLight, packedOverlay);
+    }
+
+    @Override
+    public void renderForBone(PoseStack poseStack, T animatable, GeoBone bone, RenderType renderType,
+                              MultiBufferSource bufferSource, VertexConsumer buffer, float partialTick,
+                              int packedLight, int packedOverlay) {
+        if (this.skipForLod) {
+            return;
+        }
+        super.renderForBone(poseStack, animatable, bone, renderType, bufferSource, buffer, partialTick, packedLight, packedOverlay);
+    }
+
     /**
      * Maps GeckoLib bone names to held item stacks
      */
     @Nullable
     @Override
     protected ItemStack getStackForBone(GeoBone bone, T animatable) {
-        String boneName = bone.getName();
-
-        // MAIN HAND
-        if (boneName.equals("itemMainHand") || boneName.equals("itemMainHand2") || boneName.equals("itemMainHand3")) {
-            return animatable.getItemBySlot(EquipmentSlot.MAINHAND);
-        }
+        switch (getBoneSlot(bone)) {
+            case MAIN_HAND:
+                return animatable.getItemBySlot(EquipmentSlot.MAINHAND);
 
-        // OFF HAND
-        if (boneName.equals("itemOffHand") || boneName.equals("itemOffHand2") || boneName.equals("itemOffHand3")) {
-            return animatable.getItemBySlot(EquipmentSlot.OFFHAND);
-        }
+            case OFF_HAND:
+                return animatable.getItemBySlot(EquipmentSlot.OFFHAND);
 
-        // HEAD (only render *non-armor* head items, like pumpkins)
-        if (boneName.equals("Head") || boneName.equals("armorHead")) {
-            ItemStack headStack = animatable.getItemBySlot(EquipmentSlot.HEAD);
-            if (headStack.getItem() instanceof ArmorItem armorItem) {
-                // Skip helmets — armor renderer already handles them
-                if (armorItem.getEquipmentSlot() == EquipmentSlot.HEAD) {
-                    return ItemStack.EMPTY;
-                }
+            case HEAD: {
+                // Only render *non-armor* head items, like pumpkins; helmets are handled by the armor layer
+                ItemStack headStack = animatable.getItemBySlot(EquipmentSlot.HEAD);
+                return getProfile(headStack.getItem()).helmet ? ItemStack.EMPTY : headStack;
             }
-            return headStack;
-        }
 
-        return null;
+            default:
+                return null;
+        }
     }
 
     /**
@@ -67,27 +94,13 @@ public class GeoEquipmentLayer<T extends LivingEntity & GeoAnimatable> extends B
     @NotNull
     @Override
     protected ItemDisplayContext getTransformTypeForStack(GeoBone bone, ItemStack stack, T animatable) {
-        String boneName = bone.getName();
-        
-        boolean isNichirinSword = false;
-        
-       
-
-        switch (boneName) {
-            case "itemMainHand":
-            case "itemMainHand2":
-            case "itemMainHand3":
+        switch (getBoneSlot(bone)) {
+            case MAIN_HAND:
                 return ItemDisplayContext.THIRD_PERSON_RIGHT_HAND;
-
-            case "itemOffHand":
-            case "itemOffHand2":
-            case "itemOffHand3":
+            case OFF_HAND:
                 return ItemDisplayContext.THIRD_PERSON_LEFT_HAND;
-
-            case "Head":
-            case "armorHead":
+            case HEAD:
                 return ItemDisplayContext.HEAD;
-
             default:
                 return ItemDisplayContext.NONE;
         }
@@ -107,67 +120,144 @@ public class GeoEquipmentLayer<T extends LivingEntity & GeoAnimatable> extends B
             int packedLight,
             int packedOverlay
     ) {
-        String boneName = bone.getName();
-
-        // ✅ MAIN HAND – sword/tool alignment
-        if (boneName.startsWith("itemMainHand")) {
-            poseStack.pushPose();
-            // Position sword in front of hand
-            poseStack.translate(0.0, 0.05, 0.01);
-            // Rotate sword downward slightly
-            poseStack.mulPose(Axis.XP.rotationDegrees(-90f));
-            poseStack.mulPose(Axis.YP.rotationDegrees(0f));
-            poseStack.mulPose(Axis.ZP.rotationDegrees(0f));
-            poseStack.scale(1.0f, 1.0f, 1.0f);
+        BakedTransform transform = switch (getBoneSlot(bone)) {
+            case MAIN_HAND -> MAIN_HAND_TRANSFORM;            // Sword/tool in front of hand, tilted down
+            case OFF_HAND -> getProfile(stack.getItem()).offHand; // Shield or second weapon
+            case HEAD -> HEAD_TRANSFORM;                      // Non-armor head items (pumpkins, skulls)
+            default -> null;
+        };
+
+        if (transform == null) {
             super.renderStackForBone(poseStack, bone, stack, animatable, bufferSource, partialTick, packedLight, packedOverlay);
-            poseStack.popPose();
             return;
         }
 
-        // ✅ OFF HAND – shield or second weapon
-        if (boneName.startsWith("itemOffHand")) {
-        	boolean isNichirinSword = false;
-        	 ResourceLocation key = BuiltInRegistries.ITEM.getKey(stack.getItem());
-             if (key != null && key.toString().toLowerCase().contains("nichirin")) {
-                 // This is a Nichirin item
-             	isNichirinSword = true;
-             }
-             
-            poseStack.pushPose();
-            if (isNichirinSword) {
-            	poseStack.translate(0.0, 0.2, -0.03);
-	            poseStack.mulPose(Axis.XP.rotationDegrees(-90f));
-	            poseStack.mulPose(Axis.YP.rotationDegrees(180f));
-	            poseStack.mulPose(Axis.ZP.rotationDegrees(0f));
+        poseStack.pushPose();
+        PoseStack.Pose last = poseStack.last();
+        last.pose().mul(transform.pose);
+        last.normal().mul(transform.normal);
+        super.renderStackForBone(poseStack, bone, stack, animatable, bufferSource, partialTick, packedLight, packedOverlay);
+        poseStack.popPose();
+    }
+
+    // ===== Precomputed bone categories and item render profiles =====
+
+    private enum BoneSlot { MAIN_HAND, OFF_HAND, HEAD, NONE }
+
+    // Cap on remembered models; GeckoLib bakes new bone objects on every resource reload
+    private static final int MAX_CLASSIFIED_MODELS = 8;
+
+    // Bone -> slot by identity, filled once per baked model so rendering never hashes bone names
+    private final Map<GeoBone, BoneSlot> boneSlots = new IdentityHashMap<>();
+    private final Set<BakedGeoModel> classifiedModels = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // Item -> render profile, filled once per item
+    private static final Map<Item, ItemProfile> ITEM_PROFILES = new IdentityHashMap<>();
+
+    private static final BakedTransform MAIN_HAND_TRANSFORM = new BakedTransform(
+        new Matrix4f().translation(0.0f, 0.05f, 0.01f).rotateX((float) Math.toRadians(-90)),
+        new Matrix3f().rotationX((float) Math.toRadians(-90)));
+
+    private static final BakedTransform HEAD_TRANSFORM = new BakedTransform(
+        new Matrix4f().translation(0.0f, 0.25f, 0.0f).scale(0.625f),
+        new Matrix3f()); // Uniform positive scale leaves normals untouched (same as PoseStack.scale)
+
+    private BoneSlot getBoneSlot(GeoBone bone) {
+        return this.boneSlots.getOrDefault(bone, BoneSlot.NONE);
+    }
+
+    private void classifyBones(BakedGeoModel model) {
+        if (this.classifiedModels.contains(model)) {
+            return;
+        }
+        if (this.classifiedModels.size() >= MAX_CLASSIFIED_MODELS) {
+            // Drop bones of models replaced by a resource reload
+            this.classifiedModels.clear();
+            this.boneSlots.clear();
+        }
+        this.classifiedModels.add(model);
+        for (GeoBone bone : model.topLevelBones()) {
+            classifyBoneTree(bone);
+        }
+    }
+
+    private void classifyBoneTree(GeoBone bone) {
+        this.boneSlots.put(bone, classifyBone(bone.getName()));
+        for (GeoBone child : bone.getChildBones()) {
+            classifyBoneTree(child);
+        }
+    }
+
+    private static BoneSlot classifyBone(String boneName) {
+        switch (boneName) {
+            case "itemMainHand":
+            case "itemMainHand2":
+            case "itemMainHand3":
+                return BoneSlot.MAIN_HAND;
+
+            case "itemOffHand":
+            case "itemOffHand2":
+            case "itemOffHand3":
+                return BoneSlot.OFF_HAND;
+
+            case "Head":
+            case "armorHead":
+                return BoneSlot.HEAD;
+
+            default:
+                return BoneSlot.NONE;
+        }
+    }
+
+    private static ItemProfile getProfile(Item item) {
+        return ITEM_PROFILES.computeIfAbsent(item, ItemProfile::new);
+    }
+
+    private static final class BakedTransform {
+        final Matrix4f pose;
+        final Matrix3f normal;
+
+        BakedTransform(Matrix4f pose, Matrix3f normal) {
+            this.pose = pose;
+            this.normal = normal;
+        }
+    }
+
+    /**
+     * How an item is drawn on this layer, worked out once per item
+     */
+    private static final class ItemProfile {
+        final boolean helmet;
+        final BakedTransform offHand;
+
+        ItemProfile(Item item) {
+            this.helmet = item instanceof ArmorItem armorItem && armorItem.getEquipmentSlot() == EquipmentSlot.HEAD;
+
+            ResourceLocation key = BuiltInRegistries.ITEM.getKey(item);
+            boolean nichirin = key != null && key.toString().toLowerCase().contains("nichirin");
+
+            Matrix4f pose = new Matrix4f();
+            Matrix3f normal = new Matrix3f();
+            if (nichirin) {
+                pose.translation(0.0f, 0.2f, -0.03f);
+                rotate(pose, normal, -90f, 180f);
             } else {
-	            poseStack.translate(0.0, 0.41, -0.2);
-	            poseStack.mulPose(Axis.XP.rotationDegrees(180f));
-	            poseStack.mulPose(Axis.YP.rotationDegrees(180f));
-	            poseStack.mulPose(Axis.ZP.rotationDegrees(0f));
+                pose.translation(0.0f, 0.41f, -0.2f);
+                rotate(pose, normal, 180f, 180f);
             }
 
             // Slight adjustment if it's a shield
-            if (stack.getItem() instanceof ShieldItem) {
-                poseStack.translate(0.0f, -0.2f, -0.05f);
-                poseStack.mulPose(Axis.YP.rotationDegrees(180f));
+            if (item instanceof ShieldItem) {
+                pose.translate(0.0f, -0.2f, -0.05f);
+                pose.rotateY((float) Math.toRadians(180));
+                normal.rotateY((float) Math.toRadians(180));
             }
-
-            super.renderStackForBone(poseStack, bone, stack, animatable, bufferSource, partialTick, packedLight, packedOverlay);
-            poseStack.popPose();
-            return;
+            this.offHand = new BakedTransform(pose, normal);
         }
 
-        // ✅ HEAD – non-armor (pumpkins, skulls)
-        if (boneName.equals("Head") || boneName.equals("armorHead")) {
-            poseStack.pushPose();
-            poseStack.translate(0.0, 0.25, 0.0);
-            poseStack.scale(0.625f, 0.625f, 0.625f);
-            super.renderStackForBone(poseStack, bone, stack, animatable, bufferSource, partialTick, packedLight, packedOverlay);
-            poseStack.popPose();
-            return;
+        private static void rotate(Matrix4f pose, Matrix3f normal, float xDegrees, float yDegrees) {
+            pose.rotateX((float) Math.toRadians(xDegrees)).rotateY((float) Math.toRadians(yDegrees));
+            normal.rotateX((float) Math.toRadians(xDegrees)).rotateY((float) Math.toRadians(yDegrees));
         }
-
-        // Default
-        super.renderStackForBone(poseStack, bone, stack, animatable, bufferSource, partialTick, packedLight, packedOverlay);
     }
 }
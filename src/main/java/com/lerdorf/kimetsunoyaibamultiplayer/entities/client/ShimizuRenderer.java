@@ -1,10 +1,10 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.entities.client;
 
 import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.client.model.LodGeoModel;
 import com.lerdorf.kimetsunoyaibamultiplayer.entities.ShimizuEntity;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.resources.ResourceLocation;
-import software.bernie.geckolib.model.GeoModel;
 import software.bernie.geckolib.renderer.GeoEntityRenderer;
 
 /**
@@ -12,7 +12,7 @@ import software.bernie.geckolib.renderer.GeoEntityRenderer;
  */
 public class ShimizuRenderer extends GeoEntityRenderer<ShimizuEntity> {
     public ShimizuRenderer(EntityRendererProvider.Context context) {
-        super(context, new GeoModel<ShimizuEntity>() {
+        super(context, new LodGeoModel<ShimizuEntity>() {
             @Override
             public ResourceLocation getModelResource(ShimizuEntity entity) {
                 return ResourceLocation.fromNamespaceAndPath(KimetsunoyaibaMultiplayer.MODID, "geo/biped.geo.json");
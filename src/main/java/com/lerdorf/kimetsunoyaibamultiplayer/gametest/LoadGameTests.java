@@ -0,0 +1,210 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.gametest;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.BreathingForm;
+import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.FrostBreathingForms;
+import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.IceBreathingForms;
+import com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig;
+import com.lerdorf.kimetsunoyaibamultiplayer.entities.ModEntities;
+import com.mojang.authlib.GameProfile;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Headless load tests, run through the gameTestServer run config
+ * Each scenario spawns its load into the load_arena structure, lets it settle for WARMUP_TICKS,
+ * records MEASURE_TICKS server ticks with LoadTestRecorder and fails when a budget from
+ * LoadTestSettings is exceeded. Every scenario has its own batch so they run one after another.
+ */
+@GameTestHolder(KimetsunoyaibaMultiplayer.MODID)
+@PrefixGameTestTemplate(false)
+public class LoadGameTests {
+    private static final String ARENA = "load_arena";
+    // Inner size of the arena (the walls take the outer ring)
+    private static final int ARENA_MIN = 2;
+    private static final int ARENA_MAX = 29;
+    // Must cover WARMUP_TICKS + MEASURE_TICKS; raise it if the run config asks for longer runs
+    private static final int TIMEOUT_TICKS = 2400;
+
+    // Configured EntityConfig.slayerAiThrottleEnabled while a scenario overrides it, else null
+    private static Boolean configuredAiThrottle;
+
+    /**
+     * Idle crowd of every slayer type, measuring AI and animation sync cost
+     * The game test server has no real players, so with the distance throttle on every slayer
+     * sits in the FROZEN band; the unthrottled run measures full AI.
+     */
+    @GameTest(template = ARENA, batch = "kny_load_slayer_crowd", timeoutTicks = TIMEOUT_TICKS)
+    public static void slayerCrowd(GameTestHelper helper) {
+        runScenario(helper, "slayerCrowd", false, () -> {
+            spawnSlayers(helper);
+            return tick -> {};
+        });
+    }
+
+    @GameTest(template = ARENA, batch = "kny_load_slayer_crowd_throttled", timeoutTicks = TIMEOUT_TICKS)
+    public static void slayerCrowdThrottled(GameTestHelper helper) {
+        runScenario(helper, "slayerCrowd", true, () -> {
+            spawnSlayers(helper);
+            return tick -> {};
+        });
+    }
+
+    /**
+     * Fake players casting every ice and frost form in turn
+     */
+    @GameTest(template = ARENA, batch = "kny_load_form_casting", timeoutTicks = TIMEOUT_TICKS)
+    public static void formCasting(GameTestHelper helper) {
+        runScenario(helper, "formCasting", false, () -> castingLoad(helper));
+    }
+
+    /**
+     * Casters and a slayer crowd together, so hit queries have entities to find
+     */
+    @GameTest(template = ARENA, batch = "kny_load_mixed", timeoutTicks = TIMEOUT_TICKS)
+    public static void mixed(GameTestHelper helper) {
+        runScenario(helper, "mixed", false, () -> {
+            spawnSlayers(helper);
+            return castingLoad(helper);
+        });
+    }
+
+    @GameTest(template = ARENA, batch = "kny_load_mixed_throttled", timeoutTicks = TIMEOUT_TICKS)
+    public static void mixedThrottled(GameTestHelper helper) {
+        runScenario(helper, "mixed", true, () -> {
+            spawnSlayers(helper);
+            return castingLoad(helper);
+        });
+    }
+
+    /**
+     * Run a scenario with the slayer AI throttle forced on or off, restoring the configured
+     * value when the scenario ends
+     * @param setup Spawns the scenario's load and returns its per-tick action
+     */
+    private static void runScenario(GameTestHelper helper, String name, boolean aiThrottle,
+                                    Supplier<IntConsumer> setup) {
+        overrideAiThrottle(aiThrottle);
+        String scenario = name + (aiThrottle ? " [aiThrottle=on]" : " [aiThrottle=off]");
+
+        IntConsumer perTick;
+        try {
+            perTick = setup.get();
+        } catch (RuntimeException e) {
+            restoreAiThrottle();
+            throw e;
+        }
+
+        int[] tick = {0};
+        helper.onEachTick(() -> {
+            try {
+                perTick.accept(tick[0]++);
+            } catch (RuntimeException e) {
+                restoreAiThrottle();
+                throw e;
+            }
+        });
+        helper.runAtTickTime(LoadTestSettings.WARMUP_TICKS,
+            () -> LoadTestRecorder.start(scenario, LoadTestSettings.MEASURE_TICKS));
+        helper.runAtTickTime(LoadTestSettings.WARMUP_TICKS + LoadTestSettings.MEASURE_TICKS + 1, () -> {
+            restoreAiThrottle();
+            LoadTestRecorder.Report report = LoadTestRecorder.stop();
+            List<String> violations = report.budgetViolations();
+            if (!violations.isEmpty()) {
+                helper.fail(report.scenario() + " over budget: " + String.join(", ", violations));
+            }
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Force the slayer AI throttle for a scenario
+     * The configured value is only saved if nothing is overridden yet, so a scenario that timed out
+     * without restoring cannot leak its forced value into the next one's "configured" value.
+     */
+    private static void overrideAiThrottle(boolean enabled) {
+        if (configuredAiThrottle == null) {
+            configuredAiThrottle = EntityConfig.slayerAiThrottleEnabled;
+        }
+        EntityConfig.slayerAiThrottleEnabled = enabled;
+    }
+
+    private static void restoreAiThrottle() {
+        if (configuredAiThrottle != null) {
+            EntityConfig.slayerAiThrottleEnabled = configuredAiThrottle;
+            configuredAiThrottle = null;
+        }
+    }
+
+    private static void spawnSlayers(GameTestHelper helper) {
+        List<EntityType<? extends Mob>> types = List.of(ModEntities.ICE_SLAYER.get(), ModEntities.FROST_SLAYER.get(),
+            ModEntities.KOMOREBI.get(), ModEntities.SHIMIZU.get());
+        int total = types.size() * LoadTestSettings.SLAYERS_PER_TYPE;
+        for (int i = 0; i < total; i++) {
+            Mob slayer = helper.spawn(types.get(i % types.size()), gridPos(i, total));
+            // Keep the crowd the same size for the whole run
+            slayer.setInvulnerable(true);
+            slayer.setPersistenceRequired();
+        }
+    }
+
+    /**
+     * Fake players in the middle of the arena, each casting the next form every CAST_INTERVAL_TICKS
+     * Casts are staggered so the load is spread over the interval rather than landing on one tick.
+     */
+    private static IntConsumer castingLoad(GameTestHelper helper) {
+        List<BreathingForm> forms = new ArrayList<>();
+        forms.addAll(IceBreathingForms.createIceBreathing().getForms());
+        forms.addAll(FrostBreathingForms.createFrostBreathing().getForms());
+
+        ServerLevel level = helper.getLevel();
+        List<FakePlayer> casters = new ArrayList<>();
+        for (int i = 0; i < LoadTestSettings.CASTERS; i++) {
+            FakePlayer caster = FakePlayerFactory.get(level,
+                new GameProfile(UUID.nameUUIDFromBytes(("kny_load_caster_" + i).getBytes(StandardCharsets.UTF_8)), "kny_load_" + i));
+            double angle = i * Math.PI * 2 / Math.max(1, LoadTestSettings.CASTERS);
+            Vec3 pos = helper.absoluteVec(new Vec3(16 + Math.cos(angle) * 3, 1, 16 + Math.sin(angle) * 3));
+            caster.moveTo(pos.x, pos.y, pos.z, (float) Math.toDegrees(angle) - 90.0f, 0.0f);
+            casters.add(caster);
+        }
+
+        int[] nextForm = new int[casters.size()];
+        return tick -> {
+            for (int i = 0; i < casters.size(); i++) {
+                if ((tick + i) % LoadTestSettings.CAST_INTERVAL_TICKS != 0) {
+                    continue;
+                }
+                BreathingForm form = forms.get(nextForm[i]);
+                nextForm[i] = (nextForm[i] + 1) % forms.size();
+                form.cast(casters.get(i), level);
+            }
+        };
+    }
+
+    /**
+     * Spread entity i of total evenly over the arena floor
+     */
+    private static BlockPos gridPos(int i, int total) {
+        int side = Math.max(1, (int) Math.ceil(Math.sqrt(total)));
+        int span = ARENA_MAX - ARENA_MIN;
+        int x = ARENA_MIN + (i % side) * span / side;
+        int z = ARENA_MIN + (i / side) * span / side;
+        return new BlockPos(x, 1, z);
+    }
+}
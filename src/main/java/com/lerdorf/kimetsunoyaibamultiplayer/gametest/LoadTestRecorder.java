@@ -0,0 +1,132 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.gametest;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.AbilityScheduler;
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.ModJfr;
+import com.mojang.logging.LogUtils;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Records whole server tick times and mod counters while a load scenario is running
+ * Only one scenario records at a time; each load test runs in its own batch so they never overlap.
+ */
+@Mod.EventBusSubscriber(modid = KimetsunoyaibaMultiplayer.MODID)
+public class LoadTestRecorder {
+    // Reports are always written, independent of the mod's log level settings
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static String scenario;
+    private static long[] tickNanos;
+    private static int ticks;
+    private static long tickStart;
+    private static int peakPendingTasks;
+    private static long tasksRunAtStart;
+    private static long hitQueriesAtStart;
+    private static long targetQueriesAtStart;
+
+    public record Report(String scenario, int ticks, double p50Mspt, double p95Mspt, double p99Mspt,
+                         double maxMspt, long tasksRun, int peakPendingTasks, long hitQueries,
+                         long targetQueries) {
+
+        public double hitQueriesPerTick() {
+            return ticks == 0 ? 0 : hitQueries / (double) ticks;
+        }
+
+        public double targetQueriesPerTick() {
+            return ticks == 0 ? 0 : targetQueries / (double) ticks;
+        }
+
+        public String summary() {
+            return String.format(Locale.ROOT,
+                "%s: ticks=%d mspt p50=%.2f p95=%.2f p99=%.2f max=%.2f tasksRun=%d peakPendingTasks=%d hitQueries=%d (%.1f/tick)"
+                    + " targetQueries=%d (%.1f/tick)",
+                scenario, ticks, p50Mspt, p95Mspt, p99Mspt, maxMspt, tasksRun, peakPendingTasks, hitQueries,
+                hitQueriesPerTick(), targetQueries, targetQueriesPerTick());
+        }
+
+        /**
+         * @return Every budget from LoadTestSettings this report exceeds, empty if within budget
+         */
+        public List<String> budgetViolations() {
+            List<String> violations = new ArrayList<>();
+            if (p50Mspt > LoadTestSettings.BUDGET_P50_MSPT) {
+                violations.add(String.format(Locale.ROOT, "p50 MSPT %.2f > %.2f", p50Mspt, LoadTestSettings.BUDGET_P50_MSPT));
+            }
+            if (p99Mspt > LoadTestSettings.BUDGET_P99_MSPT) {
+                violations.add(String.format(Locale.ROOT, "p99 MSPT %.2f > %.2f", p99Mspt, LoadTestSettings.BUDGET_P99_MSPT));
+            }
+            if (peakPendingTasks > LoadTestSettings.BUDGET_PEAK_PENDING_TASKS) {
+                violations.add(String.format(Locale.ROOT, "peak pending tasks %d > %d", peakPendingTasks,
+                    LoadTestSettings.BUDGET_PEAK_PENDING_TASKS));
+            }
+            if (hitQueriesPerTick() > LoadTestSettings.BUDGET_HIT_QUERIES_PER_TICK) {
+                violations.add(String.format(Locale.ROOT, "hit queries/tick %.1f > %.1f", hitQueriesPerTick(),
+                    LoadTestSettings.BUDGET_HIT_QUERIES_PER_TICK));
+            }
+            if (targetQueriesPerTick() > LoadTestSettings.BUDGET_TARGET_QUERIES_PER_TICK) {
+                violations.add(String.format(Locale.ROOT, "target queries/tick %.1f > %.1f", targetQueriesPerTick(),
+                    LoadTestSettings.BUDGET_TARGET_QUERIES_PER_TICK));
+            }
+            return violations;
+        }
+    }
+
+    /**
+     * Start recording a scenario for up to maxTicks server ticks
+     */
+    public static void start(String name, int maxTicks) {
+        scenario = name;
+        tickNanos = new long[maxTicks];
+        ticks = 0;
+        tickStart = 0;
+        peakPendingTasks = AbilityScheduler.pendingTaskCount();
+        tasksRunAtStart = AbilityScheduler.tasksRun();
+        hitQueriesAtStart = ModJfr.hitQueryCount();
+        targetQueriesAtStart = ModJfr.targetQueryCount();
+    }
+
+    /**
+     * Stop recording and log the scenario's report
+     */
+    public static Report stop() {
+        long[] sorted = Arrays.copyOf(tickNanos, ticks);
+        Arrays.sort(sorted);
+        Report report = new Report(scenario, ticks,
+            percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95), percentileMillis(sorted, 0.99),
+            percentileMillis(sorted, 1.0), AbilityScheduler.tasksRun() - tasksRunAtStart, peakPendingTasks,
+            ModJfr.hitQueryCount() - hitQueriesAtStart, ModJfr.targetQueryCount() - targetQueriesAtStart);
+        scenario = null;
+        tickNanos = null;
+        LOGGER.info("[KnY load test] {}", report.summary());
+        return report;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = Math.min(sorted.length - 1, Math.max(0, (int) Math.ceil(sorted.length * percentile) - 1));
+        return sorted[index] / 1_000_000.0;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (scenario == null) {
+            return;
+        }
+        if (event.phase == TickEvent.Phase.START) {
+            tickStart = System.nanoTime();
+        } else if (tickStart != 0 && ticks < tickNanos.length) {
+            tickNanos[ticks++] = System.nanoTime() - tickStart;
+            peakPendingTasks = Math.max(peakPendingTasks, AbilityScheduler.pendingTaskCount());
+        }
+    }
+}
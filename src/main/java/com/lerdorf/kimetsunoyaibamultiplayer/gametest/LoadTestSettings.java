@@ -0,0 +1,44 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.gametest;
+
+/**
+ * Sizes and budgets for the load game tests
+ * Read from system properties so the gameTestServer run config (or -D on the command line) can
+ * scale a run up or tighten budgets without touching the mod's config files.
+ */
+public final class LoadTestSettings {
+    private static final String PREFIX = "kny.loadtest.";
+
+    /** Slayers spawned per type (ice, frost, Komorebi, Shimizu) */
+    public static final int SLAYERS_PER_TYPE = Integer.getInteger(PREFIX + "slayersPerType", 4);
+    /** Fake players casting forms */
+    public static final int CASTERS = Integer.getInteger(PREFIX + "casters", 4);
+    /** Ticks between two casts by the same fake player */
+    public static final int CAST_INTERVAL_TICKS = Math.max(1, Integer.getInteger(PREFIX + "castIntervalTicks", 10));
+
+    /** Ticks to let the scenario settle before recording */
+    public static final int WARMUP_TICKS = Integer.getInteger(PREFIX + "warmupTicks", 40);
+    /** Ticks recorded per scenario */
+    public static final int MEASURE_TICKS = Math.max(1, Integer.getInteger(PREFIX + "measureTicks", 200));
+
+    // Budgets - a scenario fails when any of these is exceeded
+    public static final double BUDGET_P50_MSPT = doubleProperty("budget.p50Mspt", 25.0);
+    public static final double BUDGET_P99_MSPT = doubleProperty("budget.p99Mspt", 50.0);
+    public static final int BUDGET_PEAK_PENDING_TASKS = Integer.getInteger(PREFIX + "budget.peakPendingTasks", 2000);
+    public static final double BUDGET_HIT_QUERIES_PER_TICK = doubleProperty("budget.hitQueriesPerTick", 200.0);
+    public static final double BUDGET_TARGET_QUERIES_PER_TICK = doubleProperty("budget.targetQueriesPerTick", 200.0);
+
+    private LoadTestSettings() {
+    }
+
+    private static double doubleProperty(String name, double fallback) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
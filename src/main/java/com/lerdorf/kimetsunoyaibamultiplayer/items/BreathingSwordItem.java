@@ -1,10 +1,13 @@
 package com.lerdorf.kimetsunoyaibamultiplayer.items;
 
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
 import com.lerdorf.kimetsunoyaibamultiplayer.api.SwordRegistry;
 import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.BreathingForm;
 import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.BreathingTechnique;
-import com.lerdorf.kimetsunoyaibamultiplayer.breathingtechnique.PlayerBreathingData;
+import com.lerdorf.kimetsunoyaibamultiplayer.capability.ISwordWielderData;
+import com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingFormSyncPacket;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
@@ -47,9 +50,12 @@ public abstract class BreathingSwordItem extends SwordItem {
     public InteractionResultHolder<ItemStack> use(Level level, Player player, InteractionHand hand) {
         ItemStack stack = player.getItemInHand(hand);
         BreathingTechnique technique = getBreathingTechnique();
-        PlayerBreathingData.PlayerData data = PlayerBreathingData.getOrCreate(player.getUUID());
+        ISwordWielderData data = player.getCapability(KimetsunoyaibaMultiplayer.SWORD_WIELDER_DATA).orElse(null);
+        if (data == null) {
+            return InteractionResultHolder.pass(stack);
+        }
 
-        int formIndex = data.getCurrentFormIndex();
+        int formIndex = data.getFormIndex();
         BreathingForm form = technique.getForm(formIndex);
 
         if (form != null) {
@@ -67,7 +73,8 @@ public abstract class BreathingSwordItem extends SwordItem {
             // Check item cooldown
             if (!player.getCooldowns().isOnCooldown(this)) {
                 // Execute the form effect
-                form.getEffect().execute(player, level);
+                form.cast(player, level);
+                data.setLastFormUseTick(level.getGameTime());
 
                 // Apply item cooldown
                 player.getCooldowns().addCooldown(this, form.getCooldownSeconds() * 20);
@@ -119,20 +126,30 @@ public abstract class BreathingSwordItem extends SwordItem {
 
     /**
      * Cycle to the next or previous form
+     * The server owns the selection: on the client this only asks the server to cycle, and the
+     * server replies with the new index so the client's HUD matches what use() will cast.
      * @param player The player cycling forms
      * @param backward If true, cycle backward; if false, cycle forward
      */
     public void cycleForm(Player player, boolean backward) {
+        if (player.level().isClientSide) {
+            com.lerdorf.kimetsunoyaibamultiplayer.network.ModNetworking.sendToServer(
+                new com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CycleBreathingFormPacket(backward));
+            return;
+        }
+
         BreathingTechnique technique = getBreathingTechnique();
-        PlayerBreathingData.PlayerData data = PlayerBreathingData.getOrCreate(player.getUUID());
+        ISwordWielderData data = player.getCapability(KimetsunoyaibaMultiplayer.SWORD_WIELDER_DATA).orElse(null);
+        if (data == null) {
+            return;
+        }
 
-        if (backward) {
-            data.cycleFormBackward(technique.getFormCount());
-        } else {
-            data.cycleForm(technique.getFormCount());
+        data.cycleForm(technique.getFormCount(), backward);
+        if (player instanceof ServerPlayer serverPlayer) {
+            BreathingFormSyncPacket.sendTo(serverPlayer);
         }
 
-        int newIndex = data.getCurrentFormIndex();
+        int newIndex = data.getFormIndex();
         BreathingForm form = technique.getForm(newIndex);
 
         if (form != null) {
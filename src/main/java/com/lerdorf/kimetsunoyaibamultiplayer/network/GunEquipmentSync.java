@@ -0,0 +1,74 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.network;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.network.packets.GunEquipmentPacket;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Forwards gun equip/unequip changes to tracking clients
+ * LivingEquipmentChangeEvent only fires on the server, so clients cannot see equipment changes
+ * themselves. Changes are collected during the tick and sent at its end, after the vanilla
+ * equipment packets, so the client handles each entity once with its new items in place.
+ */
+@Mod.EventBusSubscriber(modid = KimetsunoyaibaMultiplayer.MODID)
+public class GunEquipmentSync {
+    private static final Set<LivingEntity> PENDING = new LinkedHashSet<>();
+
+    /**
+     * Check if an item is a gun from the kimetsunoyaiba mod
+     */
+    public static boolean isGunItem(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return false;
+        }
+        ResourceLocation itemId = net.minecraftforge.registries.ForgeRegistries.ITEMS.getKey(stack.getItem());
+        if (itemId == null || !itemId.getNamespace().equals("kimetsunoyaiba")) {
+            return false;
+        }
+        String path = itemId.getPath();
+        return path.contains("rifle") || path.contains("pistol") || path.contains("minigun");
+    }
+
+    @SubscribeEvent
+    public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (event.getSlot() != EquipmentSlot.MAINHAND && event.getSlot() != EquipmentSlot.OFFHAND) {
+            return;
+        }
+        LivingEntity entity = event.getEntity();
+        if (entity.level().isClientSide()) {
+            return;
+        }
+        if (isGunItem(event.getFrom()) || isGunItem(event.getTo())) {
+            PENDING.add(entity);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || PENDING.isEmpty()) {
+            return;
+        }
+        for (LivingEntity entity : PENDING) {
+            if (!entity.isRemoved()) {
+                ModNetworking.sendToTrackingEntity(new GunEquipmentPacket(entity.getId()), entity);
+            }
+        }
+        PENDING.clear();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        PENDING.clear();
+    }
+}
@@ -2,16 +2,28 @@ package com.lerdorf.kimetsunoyaibamultiplayer.network;
 
 import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
 import com.lerdorf.kimetsunoyaibamultiplayer.network.packets.AnimationSyncPacket;
+import com.lerdorf.kimetsunoyaibamultiplayer.perf.ModJfr;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkDirection;
 import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+import java.util.function.BiConsumer;
 
 public class ModNetworking {
     private static SimpleChannel INSTANCE;
 
+    // Size of the packet most recently encoded on this thread, for ModPacketSend events
+    private static final ThreadLocal<Integer> LAST_ENCODED_BYTES = ThreadLocal.withInitial(() -> 0);
+
+    // Recipient count placeholder for broadcasts, resolved only when an event is recorded
+    private static final int ALL_PLAYERS = -1;
+
     private static int packetId = 0;
     private static int id() {
         return packetId++;
@@ -32,7 +44,7 @@ public class ModNetworking {
         int packetId = id();
         net.messageBuilder(AnimationSyncPacket.class, packetId)
                 .decoder(AnimationSyncPacket::new)
-                .encoder(AnimationSyncPacket::toBytes)
+                .encoder(measured(AnimationSyncPacket::toBytes))
                 .consumerMainThread(AnimationSyncPacket::handle)
                 .add();
 
@@ -40,7 +52,7 @@ public class ModNetworking {
         int swordDisplayPacketId = id();
         net.messageBuilder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordDisplaySyncPacket.class, swordDisplayPacketId)
                 .decoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordDisplaySyncPacket::new)
-                .encoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordDisplaySyncPacket::toBytes)
+                .encoder(measured(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordDisplaySyncPacket::toBytes))
                 .consumerMainThread(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordDisplaySyncPacket::handle)
                 .add();
 
@@ -48,7 +60,7 @@ public class ModNetworking {
         int swordWielderPacketId = id();
         net.messageBuilder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordWielderSyncPacket.class, swordWielderPacketId)
                 .decoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordWielderSyncPacket::new)
-                .encoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordWielderSyncPacket::toBytes)
+                .encoder(measured(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordWielderSyncPacket::toBytes))
                 .consumerMainThread(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordWielderSyncPacket::handle)
                 .add();
 
@@ -56,7 +68,7 @@ public class ModNetworking {
         int rotationPacketId = id();
         net.messageBuilder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.PlayerRotationSyncPacket.class, rotationPacketId)
                 .decoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.PlayerRotationSyncPacket::new)
-                .encoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.PlayerRotationSyncPacket::toBytes)
+                .encoder(measured(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.PlayerRotationSyncPacket::toBytes))
                 .consumerMainThread(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.PlayerRotationSyncPacket::handle)
                 .add();
 
@@ -64,7 +76,7 @@ public class ModNetworking {
         int breathingSwordSwingPacketId = id();
         net.messageBuilder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingSwordSwingPacket.class, breathingSwordSwingPacketId)
                 .decoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingSwordSwingPacket::new)
-                .encoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingSwordSwingPacket::toBytes)
+                .encoder(measured(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingSwordSwingPacket::toBytes))
                 .consumerMainThread(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingSwordSwingPacket::handle)
                 .add();
 
@@ -72,7 +84,7 @@ public class ModNetworking {
         int cycleBreathingFormPacketId = id();
         net.messageBuilder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CycleBreathingFormPacket.class, cycleBreathingFormPacketId)
                 .decoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CycleBreathingFormPacket::new)
-                .encoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CycleBreathingFormPacket::encode)
+                .encoder(measured(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CycleBreathingFormPacket::encode))
                 .consumerMainThread(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CycleBreathingFormPacket::handle)
                 .add();
 
@@ -80,21 +92,92 @@ public class ModNetworking {
         int swordModelOverridePacketId = id();
         net.messageBuilder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordModelOverridePacket.class, swordModelOverridePacketId)
                 .decoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordModelOverridePacket::new)
-                .encoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordModelOverridePacket::encode)
+                .encoder(measured(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordModelOverridePacket::encode))
                 .consumerMainThread(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.SwordModelOverridePacket::handle)
                 .add();
+
+        // Register breathing form index sync packet (server -> client)
+        int breathingFormSyncPacketId = id();
+        net.messageBuilder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingFormSyncPacket.class, breathingFormSyncPacketId)
+                .decoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingFormSyncPacket::new)
+                .encoder(measured(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingFormSyncPacket::toBytes))
+                .consumerMainThread(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.BreathingFormSyncPacket::handle)
+                .add();
+
+        // Register gun equipment change packet (server -> client)
+        int gunEquipmentPacketId = id();
+        net.messageBuilder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.GunEquipmentPacket.class, gunEquipmentPacketId)
+                .decoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.GunEquipmentPacket::new)
+                .encoder(measured(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.GunEquipmentPacket::toBytes))
+                .consumerMainThread(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.GunEquipmentPacket::handle)
+                .add();
+
+        // Register crow render mode packet (server -> client)
+        int crowRenderModePacketId = id();
+        net.messageBuilder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CrowRenderModePacket.class, crowRenderModePacketId)
+                .decoder(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CrowRenderModePacket::new)
+                .encoder(measured(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CrowRenderModePacket::toBytes))
+                .consumerMainThread(com.lerdorf.kimetsunoyaibamultiplayer.network.packets.CrowRenderModePacket::handle)
+                .add();
+    }
+
+    /**
+     * Wrap a packet encoder so the last encoded size can be reported to the flight recorder
+     * SimpleChannel encodes synchronously inside send(), on the sending thread.
+     */
+    private static <MSG> BiConsumer<MSG, FriendlyByteBuf> measured(BiConsumer<MSG, FriendlyByteBuf> encoder) {
+        return (message, buf) -> {
+            int start = buf.writerIndex();
+            encoder.accept(message, buf);
+            LAST_ENCODED_BYTES.set(buf.writerIndex() - start);
+        };
+    }
+
+    /**
+     * Send through the channel, recording a ModPacketSend flight recorder event when enabled
+     */
+    private static <MSG> void send(PacketDistributor.PacketTarget target, MSG message, int recipients) {
+        if (!ModJfr.modPacketSendEnabled()) {
+            INSTANCE.send(target, message);
+            return;
+        }
+
+        ModJfr.ModPacketSend event = new ModJfr.ModPacketSend();
+        event.begin();
+        LAST_ENCODED_BYTES.set(0);
+        INSTANCE.send(target, message);
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = message.getClass().getSimpleName();
+            event.bytes = LAST_ENCODED_BYTES.get();
+            event.recipients = recipients == ALL_PLAYERS ? onlinePlayerCount() : recipients;
+            event.commit();
+        }
+    }
+
+    private static int onlinePlayerCount() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        return server != null ? server.getPlayerCount() : 0;
     }
 
     public static <MSG> void sendToServer(MSG message) {
-        INSTANCE.sendToServer(message);
+        send(PacketDistributor.SERVER.noArg(), message, 1);
     }
 
     public static <MSG> void sendToPlayer(MSG message, ServerPlayer player) {
-        INSTANCE.send(PacketDistributor.PLAYER.with(() -> player), message);
+        send(PacketDistributor.PLAYER.with(() -> player), message, 1);
     }
 
     public static <MSG> void sendToAllClients(MSG message) {
-        INSTANCE.send(PacketDistributor.ALL.noArg(), message);
+        send(PacketDistributor.ALL.noArg(), message, ALL_PLAYERS);
+    }
+
+    /**
+     * Send to every player tracking an entity (not the entity itself if it is a player)
+     */
+    public static <MSG> void sendToTrackingEntity(MSG message, net.minecraft.world.entity.Entity entity) {
+        // The tracking player count is not exposed, so events record 0 recipients here
+        send(PacketDistributor.TRACKING_ENTITY.with(() -> entity), message, 0);
     }
 
     public static <MSG> void sendToAllClientsExcept(MSG message, ServerPlayer excludePlayer) {
@@ -104,4 +187,4 @@ public class ModNetworking {
             }
         }
     }
-}
\ No newline at end of file
+}
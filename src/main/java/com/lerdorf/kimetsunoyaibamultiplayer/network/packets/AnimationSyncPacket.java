@@ -164,8 +164,8 @@ public class AnimationSyncPacket {
                     AnimationSyncPacket relayPacket = new AnimationSyncPacket(playerUUID, animationId, currentTick, animationLength, isLooping, stopAnimation, animationData, speed, layerPriority);
                     com.lerdorf.kimetsunoyaibamultiplayer.network.ModNetworking.sendToAllClientsExcept(relayPacket, sender);
 
-                    if (Config.logDebug) {
-                        System.out.println("[DEBUG] Server relayed animation sync to all other clients (speed=" + speed + ", layer=" + layerPriority + ")");
+                    if (Log.debugEnabled) {
+                        Log.debug("Server relayed animation sync to all other clients (speed={}, layer={})", speed, layerPriority);
                     }
                 }
             } else {
@@ -0,0 +1,64 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.network.packets;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.Config;
+import com.lerdorf.kimetsunoyaibamultiplayer.KimetsunoyaibaMultiplayer;
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+import com.lerdorf.kimetsunoyaibamultiplayer.network.ModNetworking;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Synchronizes the selected breathing form index from server to the owning client
+ * Sent after each cycle and whenever the client recreates its player (login, respawn, dimension change).
+ */
+public class BreathingFormSyncPacket {
+    private final int formIndex;
+
+    public BreathingFormSyncPacket(int formIndex) {
+        this.formIndex = formIndex;
+    }
+
+    public BreathingFormSyncPacket(FriendlyByteBuf buf) {
+        this.formIndex = buf.readVarInt();
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeVarInt(formIndex);
+    }
+
+    /**
+     * Send a player's current form index to that player
+     */
+    public static void sendTo(ServerPlayer player) {
+        player.getCapability(KimetsunoyaibaMultiplayer.SWORD_WIELDER_DATA).ifPresent(data ->
+            ModNetworking.sendToPlayer(new BreathingFormSyncPacket(data.getFormIndex()), player));
+    }
+
+    public boolean handle(Supplier<NetworkEvent.Context> supplier) {
+        NetworkEvent.Context ctx = supplier.get();
+        ctx.enqueueWork(() -> {
+            // This packet only goes from server -> client
+            if (ctx.getDirection().getReceptionSide().isClient()) {
+                // Use DistExecutor to safely call client-only code
+                net.minecraftforge.api.distmarker.Dist clientDist = net.minecraftforge.api.distmarker.Dist.CLIENT;
+                net.minecraftforge.fml.DistExecutor.unsafeRunWhenOn(clientDist, () -> () -> {
+                    net.minecraft.client.Minecraft mc = net.minecraft.client.Minecraft.getInstance();
+                    if (mc.player != null) {
+                        mc.player.getCapability(KimetsunoyaibaMultiplayer.SWORD_WIELDER_DATA).ifPresent(data -> {
+                            data.setFormIndex(formIndex);
+
+                            if (Config.logDebug) {
+                                Log.debug("Client received breathing form index {}", formIndex);
+                            }
+                        });
+                    }
+                });
+            }
+        });
+        ctx.setPacketHandled(true);
+        return true;
+    }
+}
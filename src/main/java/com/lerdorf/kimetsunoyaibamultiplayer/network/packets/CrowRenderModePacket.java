@@ -0,0 +1,45 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.network.packets;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.Config;
+import com.lerdorf.kimetsunoyaibamultiplayer.Log;
+import com.lerdorf.kimetsunoyaibamultiplayer.config.EntityConfig;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Tells clients which crow render mode the server runs (server -> client)
+ * The mode is a COMMON config value, so only the server's copy decides whether mirror entities
+ * exist; clients render with the proxy only when the server says so.
+ */
+public class CrowRenderModePacket {
+    private final EntityConfig.CrowRenderMode mode;
+
+    public CrowRenderModePacket(EntityConfig.CrowRenderMode mode) {
+        this.mode = mode;
+    }
+
+    public CrowRenderModePacket(FriendlyByteBuf buf) {
+        this.mode = buf.readEnum(EntityConfig.CrowRenderMode.class);
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeEnum(mode);
+    }
+
+    public boolean handle(Supplier<NetworkEvent.Context> supplier) {
+        NetworkEvent.Context ctx = supplier.get();
+        ctx.enqueueWork(() -> {
+            // This packet only goes from server -> client
+            if (ctx.getDirection().getReceptionSide().isClient()) {
+                EntityConfig.serverCrowRenderMode = mode;
+                if (Config.logDebug) {
+                    Log.debug("Server crow render mode: {}", mode);
+                }
+            }
+        });
+        ctx.setPacketHandled(true);
+        return true;
+    }
+}
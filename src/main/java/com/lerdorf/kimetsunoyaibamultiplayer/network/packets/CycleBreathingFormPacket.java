@@ -0,0 +1,43 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.network.packets;
+
+import com.lerdorf.kimetsunoyaibamultiplayer.items.BreathingSwordItem;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.InteractionHand;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Asks the server to cycle the sender's selected breathing form (client -> server)
+ * The server owns the form index; it replies with a BreathingFormSyncPacket.
+ */
+public class CycleBreathingFormPacket {
+    private final boolean backward;
+
+    public CycleBreathingFormPacket(boolean backward) {
+        this.backward = backward;
+    }
+
+    public CycleBreathingFormPacket(FriendlyByteBuf buf) {
+        this.backward = buf.readBoolean();
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeBoolean(backward);
+    }
+
+    public boolean handle(Supplier<NetworkEvent.Context> supplier) {
+        NetworkEvent.Context ctx = supplier.get();
+        ctx.enqueueWork(() -> {
+            ServerPlayer player = ctx.getSender();
+            if (player == null) return;
+
+            if (player.getItemInHand(InteractionHand.MAIN_HAND).getItem() instanceof BreathingSwordItem sword) {
+                sword.cycleForm(player, backward);
+            }
+        });
+        ctx.setPacketHandled(true);
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.network.packets;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Tells tracking clients that an entity's held gun changed (server -> client)
+ * Sent after the vanilla equipment packet for the same tick, so the client reads the new items.
+ */
+public class GunEquipmentPacket {
+    private final int entityId;
+
+    public GunEquipmentPacket(int entityId) {
+        this.entityId = entityId;
+    }
+
+    public GunEquipmentPacket(FriendlyByteBuf buf) {
+        this.entityId = buf.readVarInt();
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeVarInt(entityId);
+    }
+
+    public boolean handle(Supplier<NetworkEvent.Context> supplier) {
+        NetworkEvent.Context ctx = supplier.get();
+        ctx.enqueueWork(() -> {
+            // This packet only goes from server -> client
+            if (ctx.getDirection().getReceptionSide().isClient()) {
+                // Use DistExecutor to safely call client-only code
+                net.minecraftforge.api.distmarker.Dist clientDist = net.minecraftforge.api.distmarker.Dist.CLIENT;
+                net.minecraftforge.fml.DistExecutor.unsafeRunWhenOn(clientDist, () -> () ->
+                    com.lerdorf.kimetsunoyaibamultiplayer.client.GunAnimationHandler.markDirty(entityId));
+            }
+        });
+        ctx.setPacketHandled(true);
+        return true;
+    }
+}
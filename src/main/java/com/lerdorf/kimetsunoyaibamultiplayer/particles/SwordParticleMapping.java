@@ -5,6 +5,7 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 
 import com.lerdorf.kimetsunoyaibamultiplayer.Config;
@@ -15,12 +16,32 @@ import org.joml.Vector3f;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SwordParticleMapping {
     //private static final Log Log = LogUtils.getLog();
 
     private static final Map<String, ResourceLocation> SWORD_TO_PARTICLE_MAP = new HashMap<>();
 
+    /**
+     * Resolved result for one item: whether it counts as a sword and which particle it spawns.
+     * Items compare by identity, so a lookup here is a single hash of the Item object.
+     */
+    private static final class ResolvedSword {
+        final boolean isSword;
+        final ParticleOptions particle;
+
+        ResolvedSword(boolean isSword, ParticleOptions particle) {
+            this.isSword = isSword;
+            this.particle = particle;
+        }
+    }
+
+    // Item -> resolved sword, filled lazily (read from both the client and server threads)
+    private static final Map<Item, ResolvedSword> RESOLVED = new ConcurrentHashMap<>();
+    // Bumped on invalidation so a resolve that raced with a reload does not cache a stale result
+    private static volatile int cacheGeneration = 0;
+
     static {
         // Initialize hardcoded mappings for specific sword types
         SWORD_TO_PARTICLE_MAP.put("nichirinsword_thunder", ResourceLocation.fromNamespaceAndPath("kimetsunoyaiba", "particle_thunder"));
@@ -59,34 +80,64 @@ public class SwordParticleMapping {
         if (swordItem.isEmpty()) {
             return null;
         }
+        return resolve(swordItem.getItem()).particle;
+    }
 
-        ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(swordItem.getItem());
+    /**
+     * Drops every resolved particle so the next swing resolves again.
+     * Called when the particle config is (re)loaded; sword registrations that change an item's
+     * particle after it has been swung should call this too.
+     */
+    public static void invalidateCache() {
+        cacheGeneration++;
+        RESOLVED.clear();
+    }
+
+    /**
+     * Resolves and caches the sword flag and particle for an item
+     */
+    private static ResolvedSword resolve(Item item) {
+        ResolvedSword resolved = RESOLVED.get(item);
+        if (resolved != null) {
+            return resolved;
+        }
+
+        int generation = cacheGeneration;
+        boolean isSword = computeIsSword(item);
+        resolved = new ResolvedSword(isSword, isSword ? computeParticle(item) : null);
+        if (generation == cacheGeneration) {
+            RESOLVED.put(item, resolved);
+        }
+        return resolved;
+    }
+
+    private static ParticleOptions computeParticle(Item item) {
+        ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item);
         String itemIdString = itemId.toString();
 
         // First, check if this sword is registered in the SwordRegistry
         var registeredSword = com.lerdorf.kimetsunoyaibamultiplayer.api.SwordRegistry
-            .getSword(swordItem.getItem());
+            .getSword(item);
         if (registeredSword != null) {
             ParticleOptions effectiveParticle = registeredSword.getEffectiveParticle();
             if (effectiveParticle != null) {
-                Log.debug("Using registered particle for sword: " + itemIdString);
+                if (Config.logDebug)
+                    Log.debug("Using registered particle for sword: {}", itemIdString);
                 return effectiveParticle;
             }
         }
 
         // Second, check config-based particle mappings
-        Log.debug("Looking for particle mapping for item: " + itemIdString);
         if (ParticleConfig.particleMappings != null) {
-            Log.debug("Config mappings available: " + ParticleConfig.particleMappings.size());
-            if (ParticleConfig.particleMappings.containsKey(itemIdString)) {
-                ParticleConfig.ParticleMapping mapping = ParticleConfig.particleMappings.get(itemIdString);
-                System.out.println("Found config mapping: " + mapping.particleType);
+            ParticleConfig.ParticleMapping mapping = ParticleConfig.particleMappings.get(itemIdString);
+            if (mapping != null) {
+                if (Config.logDebug)
+                    Log.debug("Found config mapping for {}: {}", itemIdString, mapping.particleType);
                 ParticleOptions result = createParticleFromMapping(mapping);
                 if (result != null) {
-                    Log.debug("Successfully created particle from config mapping");
                     return result;
                 } else {
-                    Log.warn("Failed to create particle from config mapping");
+                    Log.warn("Failed to create particle from config mapping for {}", itemIdString);
                 }
             }
         } else {
@@ -158,25 +209,20 @@ public class SwordParticleMapping {
      */
     private static ParticleOptions createParticleFromMapping(ParticleConfig.ParticleMapping mapping) {
         try {
-            Log.debug("Creating particle from mapping: " + mapping.particleType + " (isDust: " + mapping.isDust + ")");
             ResourceLocation particleId = ResourceLocation.parse(mapping.particleType);
 
             if (mapping.isDust) {
                 // Create dust particle with custom size and color
                 Vector3f color = new Vector3f(mapping.red, mapping.green, mapping.blue);
-                Log.debug("Creating dust particle with color (" + mapping.red + ", " + mapping.green + ", " + mapping.blue + ") size " + mapping.size);
-                DustParticleOptions dustOptions = new DustParticleOptions(color, mapping.size);
-                Log.debug("Successfully created dust particle options");
-                return dustOptions;
+                if (Config.logDebug)
+                    Log.debug("Creating dust particle with color ({}, {}, {}) size {}", mapping.red, mapping.green, mapping.blue, mapping.size);
+                return new DustParticleOptions(color, mapping.size);
             } else {
                 // Try to get the particle from the registry
-                System.out.println("Looking for particle in registry: " + particleId);
                 if (BuiltInRegistries.PARTICLE_TYPE.containsKey(particleId)) {
-                    var particleType = BuiltInRegistries.PARTICLE_TYPE.get(particleId);
-                    Log.debug("Found particle type in registry: " + particleType);
-                    return (ParticleOptions) particleType;
+                    return (ParticleOptions) BuiltInRegistries.PARTICLE_TYPE.get(particleId);
                 } else {
-                    Log.warn("Particle not found in registry: " + particleId);
+                    Log.warn("Particle not found in registry: {}", particleId);
                 }
             }
         } catch (Exception e) {
@@ -196,13 +242,16 @@ public class SwordParticleMapping {
         if (item.isEmpty()) {
             return false;
         }
+        return resolve(item.getItem()).isSword;
+    }
 
+    private static boolean computeIsSword(Item item) {
         // First check if this is a registered sword
-        if (com.lerdorf.kimetsunoyaibamultiplayer.api.SwordRegistry.isRegistered(item.getItem())) {
+        if (com.lerdorf.kimetsunoyaibamultiplayer.api.SwordRegistry.isRegistered(item)) {
             return true;
         }
 
-        ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item.getItem());
+        ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item);
         String itemIdString = itemId.toString();
 
         // Check config-based mappings
@@ -236,6 +285,7 @@ public class SwordParticleMapping {
      */
     public static void registerCustomMapping(String swordType, ResourceLocation particleId) {
         SWORD_TO_PARTICLE_MAP.put(swordType, particleId);
+        invalidateCache();
         Log.info("Registered custom sword particle mapping: {} -> {}", swordType, particleId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.perf;
+
+import net.minecraft.util.profiling.ProfilerFiller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Profiler sections and rolling timings for the mod's per-tick hooks
+ * Each hook gets its own section under "kny" in the vanilla profiler (and so in Spark), and keeps
+ * one sample per tick for the last WINDOW ticks so /kny perf (server) and /knyc perf (client) can
+ * report mean, p99 and max over the same span for every hook. Hooks that do not run every tick
+ * call skip() on the other ticks, which records a 0 sample.
+ * Hooks are only timed and read from their own thread (server or client), so nothing is synchronized.
+ * Call sites should use time(...), which keeps the profiler stack balanced when a hook throws.
+ */
+public class HookTimings {
+    /** Ticks covered by each hook's samples */
+    public static final int WINDOW = 200;
+
+    private static final List<Hook> SERVER_HOOKS = new ArrayList<>();
+    private static final List<Hook> CLIENT_HOOKS = new ArrayList<>();
+
+    // Server tick
+    public static final Hook CROW_ENHANCEMENTS = new Hook("crowEnhancements", SERVER_HOOKS);
+    public static final Hook ABILITY_SCHEDULER = new Hook("abilityScheduler", SERVER_HOOKS);
+    public static final Hook CROW_MIRROR_SCAN = new Hook("crowMirrorScan", SERVER_HOOKS);
+
+    // Client tick
+    public static final Hook ANIMATION_TRACKER = new Hook("animationTracker", CLIENT_HOOKS);
+    public static final Hook IDLE_WALK_ANIMATIONS = new Hook("idleWalkAnimations", CLIENT_HOOKS);
+    public static final Hook CROW_QUEST_MARKERS = new Hook("crowQuestMarkers", CLIENT_HOOKS);
+    public static final Hook SWORD_DISPLAY = new Hook("swordDisplay", CLIENT_HOOKS);
+    public static final Hook PLAYER_GUN_ANIMATION = new Hook("playerGunAnimation", CLIENT_HOOKS);
+    public static final Hook ENTITY_GUN_ANIMATIONS = new Hook("entityGunAnimations", CLIENT_HOOKS);
+
+    public static final class Hook {
+        public final String name;
+        private final long[] samples = new long[WINDOW];
+        private final boolean[] ran = new boolean[WINDOW];
+        private int next = 0;
+        private int count = 0;
+
+        private Hook(String name, List<Hook> group) {
+            this.name = name;
+            group.add(this);
+        }
+
+        /**
+         * Open this hook's profiler section and start timing
+         * @return Start time to pass to end()
+         */
+        public long begin(ProfilerFiller profiler) {
+            profiler.push("kny");
+            profiler.push(name);
+            return System.nanoTime();
+        }
+
+        /**
+         * Stop timing and close this hook's profiler section
+         */
+        public void end(ProfilerFiller profiler, long start) {
+            record(System.nanoTime() - start, true);
+            profiler.pop();
+            profiler.pop();
+        }
+
+        /**
+         * Record a tick on which this hook did not run, so the window stays WINDOW ticks long
+         */
+        public void skip() {
+            record(0, false);
+        }
+
+        private void record(long nanos, boolean hookRan) {
+            samples[next] = nanos;
+            ran[next] = hookRan;
+            next = (next + 1) % WINDOW;
+            if (count < WINDOW) {
+                count++;
+            }
+        }
+
+        /**
+         * Run a hook inside its profiler section, closing the section even if the hook throws
+         */
+        public void time(ProfilerFiller profiler, Runnable hook) {
+            long start = begin(profiler);
+            try {
+                hook.run();
+            } finally {
+                end(profiler, start);
+            }
+        }
+
+        public void reset() {
+            next = 0;
+            count = 0;
+        }
+
+        /**
+         * @return One report line: ticks and runs covered, then mean per tick, p99 and max in milliseconds
+         */
+        public String summary() {
+            if (count == 0) {
+                return String.format("%s: no samples", name);
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long sample : sorted) {
+                total += sample;
+            }
+            int runs = 0;
+            for (int i = 0; i < count; i++) {
+                if (ran[i]) {
+                    runs++;
+                }
+            }
+            int p99Index = Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1);
+            return String.format("%s: ticks=%d runs=%d mean=%.3fms p99=%.3fms max=%.3fms", name, count, runs,
+                total / (double) count / 1_000_000.0, sorted[p99Index] / 1_000_000.0, sorted[count - 1] / 1_000_000.0);
+        }
+    }
+
+    public static List<Hook> serverHooks() {
+        return Collections.unmodifiableList(SERVER_HOOKS);
+    }
+
+    public static List<Hook> clientHooks() {
+        return Collections.unmodifiableList(CLIENT_HOOKS);
+    }
+}
@@ -0,0 +1,183 @@
+package com.lerdorf.kimetsunoyaibamultiplayer.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Java Flight Recorder events for the mod's combat, scheduling, particle and network work
+ * Every emit site checks the cached EventType first, so nothing is allocated or measured unless
+ * a recording has the event enabled. All events show up under "Kimetsunoyaiba" in JMC.
+ */
+public class ModJfr {
+
+    @Name("kimetsunoyaibamultiplayer.FormCast")
+    @Label("Breathing Form Cast")
+    @Description("Execution of a breathing form effect (scheduled follow-ups are ScheduledTaskRun)")
+    @Category({"Kimetsunoyaiba", "Combat"})
+    @StackTrace(false)
+    public static class FormCast extends Event {
+        @Label("Form")
+        public String form;
+
+        @Label("Caster Type")
+        public String casterType;
+
+        @Label("Client Side")
+        public boolean clientSide;
+    }
+
+    @Name("kimetsunoyaibamultiplayer.ScheduledTaskRun")
+    @Label("Scheduled Ability Task Run")
+    @Category({"Kimetsunoyaiba", "Combat"})
+    @StackTrace(false)
+    public static class ScheduledTaskRun extends Event {
+        @Label("Repeating")
+        public boolean repeating;
+
+        @Label("Failed")
+        public boolean failed;
+    }
+
+    @Name("kimetsunoyaibamultiplayer.HitQuery")
+    @Label("Form Hit Query")
+    @Description("Entity lookup for a breathing form hit box")
+    @Category({"Kimetsunoyaiba", "Combat"})
+    @StackTrace(false)
+    public static class HitQuery extends Event {
+        @Label("Box Volume")
+        public double boxVolume;
+
+        @Label("Candidates")
+        @Description("Living entities inside the box")
+        public int candidates;
+
+        @Label("Hits")
+        @Description("Candidates that passed the form's filter")
+        public int hits;
+    }
+
+    @Name("kimetsunoyaibamultiplayer.ParticleBurst")
+    @Label("Particle Burst")
+    @Description("One server-side particle shape sent to clients")
+    @Category({"Kimetsunoyaiba", "Particles"})
+    @StackTrace(false)
+    public static class ParticleBurst extends Event {
+        @Label("Shape")
+        public String shape;
+
+        @Label("Count")
+        @Description("Particle spawn calls")
+        public int count;
+
+        @Label("Receivers")
+        @Description("Particle packets sent, summed over all spawn calls")
+        public int receivers;
+    }
+
+    @Name("kimetsunoyaibamultiplayer.ModPacketSend")
+    @Label("Mod Packet Send")
+    @Category({"Kimetsunoyaiba", "Network"})
+    @StackTrace(false)
+    public static class ModPacketSend extends Event {
+        @Label("Type")
+        public String type;
+
+        @Label("Bytes")
+        @DataAmount
+        public int bytes;
+
+        @Label("Recipients")
+        public int recipients;
+    }
+
+    private static final EventType FORM_CAST = EventType.getEventType(FormCast.class);
+    private static final EventType SCHEDULED_TASK_RUN = EventType.getEventType(ScheduledTaskRun.class);
+    private static final EventType HIT_QUERY = EventType.getEventType(HitQuery.class);
+    private static final EventType PARTICLE_BURST = EventType.getEventType(ParticleBurst.class);
+    private static final EventType MOD_PACKET_SEND = EventType.getEventType(ModPacketSend.class);
+
+    // Forms can be cast on both logical sides, so hit queries are counted from more than one thread
+    private static final LongAdder HIT_QUERIES = new LongAdder();
+    // Slayer target searches (DemonIndex lookups and player scans)
+    private static final LongAdder TARGET_QUERIES = new LongAdder();
+
+    public static boolean formCastEnabled() {
+        return FORM_CAST.isEnabled();
+    }
+
+    public static boolean scheduledTaskRunEnabled() {
+        return SCHEDULED_TASK_RUN.isEnabled();
+    }
+
+    public static boolean particleBurstEnabled() {
+        return PARTICLE_BURST.isEnabled();
+    }
+
+    public static boolean modPacketSendEnabled() {
+        return MOD_PACKET_SEND.isEnabled();
+    }
+
+    /**
+     * @return Number of form hit box queries since startup (read by the load game tests)
+     */
+    public static long hitQueryCount() {
+        return HIT_QUERIES.sum();
+    }
+
+    /**
+     * Count one slayer target search, either a DemonIndex lookup or a nearest-player scan
+     */
+    public static void countTargetQuery() {
+        TARGET_QUERIES.increment();
+    }
+
+    /**
+     * @return Number of slayer target searches since startup (read by the load game tests)
+     */
+    public static long targetQueryCount() {
+        return TARGET_QUERIES.sum();
+    }
+
+    /**
+     * Find living entities in a form's hit box, recording a HitQuery event when enabled
+     * Same result as level.getEntitiesOfClass(LivingEntity.class, box, filter).
+     */
+    public static List<LivingEntity> hitQuery(Level level, AABB box, Predicate<? super LivingEntity> filter) {
+        HIT_QUERIES.increment();
+        if (!HIT_QUERY.isEnabled()) {
+            return level.getEntitiesOfClass(LivingEntity.class, box, filter);
+        }
+
+        HitQuery event = new HitQuery();
+        event.begin();
+        List<LivingEntity> candidates = level.getEntitiesOfClass(LivingEntity.class, box, entity -> true);
+        List<LivingEntity> hits = new ArrayList<>(candidates.size());
+        for (LivingEntity candidate : candidates) {
+            if (filter.test(candidate)) {
+                hits.add(candidate);
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.boxVolume = box.getXsize() * box.getYsize() * box.getZsize();
+            event.candidates = candidates.size();
+            event.hits = hits.size();
+            event.commit();
+        }
+        return hits;
+    }
+}